@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Compares the standard image with the fast startup image (Spring AOT + AppCDS).
+# For each image it reports the startup time logged by Spring Boot and the time from
+# `docker run` to the first successful POST /api/loans/calculate.
+#
+# Usage: scripts/measure-startup.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-3}"
+NETWORK=loan-calculator-startup
+DATABASE=loan-calculator-startup-db
+APP=loan-calculator-startup-app
+PORT=18080
+REQUEST='{"loanAmount": 300000, "interestRate": 4.5, "term": 360}'
+
+cleanup() {
+    docker rm -f "$APP" "$DATABASE" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+cd "$(dirname "$0")/.."
+./mvnw -q -Pfast-startup -DskipTests package
+docker build -q --target standard -t loan-calculator:standard . >/dev/null
+docker build -q --target fast-startup -t loan-calculator:fast-startup . >/dev/null
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DATABASE" --network "$NETWORK" \
+    -e POSTGRES_DB=loancalculator -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=password \
+    postgres:17 >/dev/null
+until docker exec "$DATABASE" pg_isready -U postgres -d loancalculator >/dev/null 2>&1; do sleep 0.5; done
+
+measure() {
+    local image="$1"
+    local start end first_response started
+    start=$(date +%s%N)
+    docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DATABASE:5432/loancalculator" \
+        -e SPRING_JPA_HIBERNATE_DDL_AUTO=update \
+        "$image" >/dev/null
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/loans/calculate" \
+            -H 'Content-Type: application/json' -d "$REQUEST")" = "200" ]; do
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    first_response=$(( (end - start) / 1000000 ))
+    started=$(docker logs "$APP" 2>&1 | grep -o 'Started LoanCalculatorApplication in [0-9.]* seconds' || echo 'n/a')
+    echo "$image: first successful calculate after ${first_response} ms, ${started}"
+    docker rm -f "$APP" >/dev/null
+}
+
+for run in $(seq 1 "$RUNS"); do
+    echo "Run $run"
+    measure loan-calculator:standard
+    measure loan-calculator:fast-startup
+done
@@ -0,0 +1,20 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(BulkCalculationProperties.class)
+public class BulkCalculationConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bulkCalculationExecutor(BulkCalculationProperties properties) {
+        return Executors.newFixedThreadPool(properties.effectiveParallelism(),
+                new CustomizableThreadFactory("bulk-calculation-"));
+    }
+}
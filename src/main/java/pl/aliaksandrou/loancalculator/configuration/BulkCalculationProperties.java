@@ -0,0 +1,24 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param chunkSize         Number of CSV rows calculated together by one worker
+ * @param parallelism       Number of worker threads, 0 means one per available processor
+ * @param maxInFlightChunks Chunks submitted but not yet written before reading pauses
+ * @param requestTimeout    How long a bulk request may stream before it is timed out
+ */
+@ConfigurationProperties(prefix = "loan.bulk")
+public record BulkCalculationProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("16") int maxInFlightChunks,
+        @DefaultValue("1h") Duration requestTimeout) {
+
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
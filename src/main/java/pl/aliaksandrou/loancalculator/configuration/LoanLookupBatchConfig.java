@@ -0,0 +1,23 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pl.aliaksandrou.loancalculator.repository.LoanLookupBatcher;
+import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+
+@Configuration
+@EnableConfigurationProperties(LoanLookupBatchProperties.class)
+@ConditionalOnProperty(name = "loan.lookup.batching.enabled", havingValue = "true")
+public class LoanLookupBatchConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+    public LoanLookupBatcher loanLookupBatcher(LoanRepository loanRepository, LoanLookupBatchProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new LoanLookupBatcher(loanRepository, properties.window(), properties.maxBatchSize(),
+                properties.timeout(), meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled      Whether concurrent loan lookups are resolved together in one query
+ * @param window       How long the first lookup of a batch waits for others to join it
+ * @param maxBatchSize Lookups after which a batch is resolved without waiting for the window to end
+ * @param timeout      How long a lookup waits for its batch before it queries the loan on its own
+ */
+@ConfigurationProperties(prefix = "loan.lookup.batching")
+public record LoanLookupBatchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("500ms") Duration timeout) {
+}
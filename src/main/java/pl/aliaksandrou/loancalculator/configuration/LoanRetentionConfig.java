@@ -0,0 +1,13 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LoanRetentionProperties.class)
+@ConditionalOnProperty(name = "loan.retention.enabled", havingValue = "true")
+public class LoanRetentionConfig {
+}
@@ -0,0 +1,20 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled   Whether expired loans are purged in the background
+ * @param ttl       How long a loan is kept after it was last looked up or created
+ * @param batchSize Loans deleted per transaction
+ * @param purgeCron When the purge runs
+ */
+@ConfigurationProperties(prefix = "loan.retention")
+public record LoanRetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("180d") Duration ttl,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("0 30 3 * * *") String purgeCron) {
+}
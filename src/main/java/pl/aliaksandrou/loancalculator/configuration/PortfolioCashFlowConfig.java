@@ -0,0 +1,25 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Aggregation runs on its own workers, so it is not queued behind a running bulk import.
+ */
+@Configuration
+@EnableConfigurationProperties(PortfolioCashFlowProperties.class)
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class PortfolioCashFlowConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService portfolioCashFlowExecutor(PortfolioCashFlowProperties properties) {
+        return Executors.newFixedThreadPool(properties.effectiveParallelism(),
+                new CustomizableThreadFactory("portfolio-cash-flow-"));
+    }
+}
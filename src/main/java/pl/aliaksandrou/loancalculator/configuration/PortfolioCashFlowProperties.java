@@ -0,0 +1,22 @@
+package pl.aliaksandrou.loancalculator.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param chunkSize         Number of loans read with one query and aggregated together by one worker
+ * @param parallelism       Number of worker threads, 0 means one per available processor
+ * @param maxInFlightChunks Chunks submitted but not yet merged before reading pauses
+ * @param maxLoanIds        Maximum number of loan identifiers in one request
+ */
+@ConfigurationProperties(prefix = "loan.portfolio")
+public record PortfolioCashFlowProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("16") int maxInFlightChunks,
+        @DefaultValue("100000") int maxLoanIds) {
+
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,66 @@
+package pl.aliaksandrou.loancalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.aliaksandrou.loancalculator.configuration.AsyncRequestTimeoutConfig;
+import pl.aliaksandrou.loancalculator.configuration.BulkCalculationProperties;
+import pl.aliaksandrou.loancalculator.service.BulkLoanCalculationService;
+
+import java.io.InputStream;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/loans")
+@Tag(name = "Bulk Loan Calculator", description = "API for calculating loans from CSV files")
+public class BulkLoanCalculationController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final BulkLoanCalculationService bulkLoanCalculationService;
+    private final BulkCalculationProperties bulkCalculationProperties;
+
+    @Operation(
+            summary = "Calculate loans in bulk",
+            description = "Streams CSV rows of loanAmount,interestRate,term and streams back one result row per "
+                    + "input row, with validation errors in the error column and a throughput summary line",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "CSV rows of loanAmount,interestRate,term with an optional header",
+                    required = true,
+                    content = @Content(mediaType = TEXT_CSV)
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Calculation results streamed as CSV",
+                    content = @Content(mediaType = TEXT_CSV)
+            )
+    })
+    @PostMapping(value = "/calculate/bulk", consumes = TEXT_CSV, produces = TEXT_CSV)
+    public ResponseEntity<StreamingResponseBody> calculateBulk(
+            @Parameter(description = "Store calculated loans with their payment schedules")
+            @RequestParam(defaultValue = "false") boolean persist,
+            InputStream inputStream,
+            HttpServletRequest request) {
+        // Large files stream for much longer than the default async timeout
+        request.setAttribute(AsyncRequestTimeoutConfig.REQUEST_TIMEOUT_ATTRIBUTE,
+                bulkCalculationProperties.requestTimeout());
+        StreamingResponseBody body = outputStream -> bulkLoanCalculationService.calculate(inputStream, outputStream, persist);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TEXT_CSV))
+                .body(body);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
 import pl.aliaksandrou.loancalculator.dto.LoanCalculationResponse;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationSummaryResponse;
 import pl.aliaksandrou.loancalculator.service.LoanCalculationService;
 
 @RestController
@@ -48,4 +49,29 @@ public class LoanCalculatorController {
         LoanCalculationResponse response = loanCalculationService.calculateLoanSchedule(request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "Calculate loan summary",
+            description = "Calculates the monthly payment, final payment and totals without generating or storing "
+                    + "the payment schedule"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Loan summary calculated successfully",
+                    content = @Content(schema = @Schema(implementation = LoanCalculationSummaryResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input parameters",
+                    content = @Content
+            )
+    })
+    @PostMapping("/calculate/summary")
+    public ResponseEntity<LoanCalculationSummaryResponse> calculateLoanSummary(
+            @Parameter(description = "Loan calculation parameters", required = true)
+            @RequestBody LoanCalculationRequest request) {
+        LoanCalculationSummaryResponse response = loanCalculationService.calculateLoanSummary(request);
+        return ResponseEntity.ok(response);
+    }
 } 
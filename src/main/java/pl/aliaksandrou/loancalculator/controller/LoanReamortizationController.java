@@ -0,0 +1,65 @@
+package pl.aliaksandrou.loancalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationResponse;
+import pl.aliaksandrou.loancalculator.service.LoanReamortizationService;
+
+import java.util.UUID;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/loans")
+@Tag(name = "Loan Re-amortization", description = "API for applying prepayments and rate or term changes to stored loans")
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class LoanReamortizationController {
+
+    private final LoanReamortizationService loanReamortizationService;
+
+    @Operation(
+            summary = "Re-amortize loan schedule",
+            description = "Applies schedule events to a stored loan and recomputes only the payments "
+                    + "from the earliest event onwards. Events are applied on top of the loan's latest "
+                    + "revision and must start after its first month"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Loan schedule re-amortized successfully",
+                    content = @Content(schema = @Schema(implementation = LoanReamortizationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input parameters",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Loan not found",
+                    content = @Content
+            )
+    })
+    @PostMapping("/{loanId}/reamortize")
+    public ResponseEntity<LoanReamortizationResponse> reamortize(
+            @Parameter(description = "Identifier of the stored loan", required = true)
+            @PathVariable UUID loanId,
+            @Parameter(description = "Schedule events to apply", required = true)
+            @RequestBody LoanReamortizationRequest request) {
+        LoanReamortizationResponse response = loanReamortizationService.reamortize(loanId, request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,53 @@
+package pl.aliaksandrou.loancalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveResponse;
+import pl.aliaksandrou.loancalculator.service.LoanSolverService;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/loans")
+@Tag(name = "Loan Solver", description = "API for solving loan parameters from a target monthly payment")
+public class LoanSolverController {
+
+    private final LoanSolverService loanSolverService;
+
+    @Operation(
+            summary = "Solve loan parameter",
+            description = "Given a target monthly payment and two of loan amount, interest rate and term, returns the "
+                    + "maximum loan amount, the maximum interest rate or the minimum term that keeps the monthly "
+                    + "payment within the target. Nothing is stored"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Loan parameter solved successfully",
+                    content = @Content(schema = @Schema(implementation = LoanSolveResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input parameters or no solution for the target monthly payment",
+                    content = @Content
+            )
+    })
+    @PostMapping("/solve")
+    public ResponseEntity<LoanSolveResponse> solve(
+            @Parameter(description = "Target monthly payment and the known loan parameters", required = true)
+            @RequestBody LoanSolveRequest request) {
+        LoanSolveResponse response = loanSolverService.solve(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,54 @@
+package pl.aliaksandrou.loancalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowRequest;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowResponse;
+import pl.aliaksandrou.loancalculator.service.PortfolioCashFlowService;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/loans")
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Loan Portfolio", description = "API for aggregating the cash flows of stored loans")
+public class PortfolioCashFlowController {
+
+    private final PortfolioCashFlowService portfolioCashFlowService;
+
+    @Operation(
+            summary = "Aggregate portfolio cash flows",
+            description = "Projects the monthly interest and principal inflows of the selected stored loans from their "
+                    + "original schedules. Loans are selected by id and/or by amount, rate and term ranges"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cash flows aggregated successfully",
+                    content = @Content(schema = @Schema(implementation = PortfolioCashFlowResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input parameters",
+                    content = @Content
+            )
+    })
+    @PostMapping("/portfolio/cash-flow")
+    public ResponseEntity<PortfolioCashFlowResponse> aggregateCashFlows(
+            @Parameter(description = "Loan selection and projection window", required = true)
+            @RequestBody PortfolioCashFlowRequest request) {
+        PortfolioCashFlowResponse response = portfolioCashFlowService.aggregate(request);
+        return ResponseEntity.ok(response);
+    }
+}
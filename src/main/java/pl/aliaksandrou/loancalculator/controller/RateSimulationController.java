@@ -0,0 +1,52 @@
+package pl.aliaksandrou.loancalculator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationRequest;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationResponse;
+import pl.aliaksandrou.loancalculator.service.RateSimulationService;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/loans")
+@Tag(name = "Rate Simulation", description = "API for simulating variable-rate loan payments")
+public class RateSimulationController {
+
+    private final RateSimulationService rateSimulationService;
+
+    @Operation(
+            summary = "Simulate variable-rate loan",
+            description = "Runs a Monte Carlo simulation of mean-reverting rate paths and returns percentile "
+                    + "curves of the re-amortized monthly payment and remaining balance"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Simulation completed successfully",
+                    content = @Content(schema = @Schema(implementation = RateSimulationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input parameters",
+                    content = @Content
+            )
+    })
+    @PostMapping("/simulate")
+    public ResponseEntity<RateSimulationResponse> simulate(
+            @Parameter(description = "Loan and rate model parameters", required = true)
+            @RequestBody RateSimulationRequest request) {
+        RateSimulationResponse response = rateSimulationService.simulate(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,18 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BulkCalculationReport {
+    private long rows;
+
+    private long errors;
+
+    private long elapsedMillis;
+
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? rows * 1000 / elapsedMillis : rows;
+    }
+}
@@ -0,0 +1,27 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Setter
+@Getter
+@Builder
+@Schema(description = "Projected portfolio inflows of one month")
+public class CashFlowMonth {
+    @Schema(description = "Month", type = "string", example = "2025-01")
+    private YearMonth month;
+
+    @Schema(description = "Sum of interest paid in the month", example = "45812.37")
+    private BigDecimal interest;
+
+    @Schema(description = "Sum of principal repaid in the month", example = "20413.90")
+    private BigDecimal principal;
+
+    @Schema(description = "Sum of payments in the month", example = "66226.27")
+    private BigDecimal totalPayment;
+}
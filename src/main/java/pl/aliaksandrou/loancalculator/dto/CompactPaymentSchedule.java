@@ -0,0 +1,159 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Immutable payment schedule kept as cent amounts in primitive arrays, with payment dates derived
+ * from the start date, about a tenth of the heap of the equivalent {@link PaymentScheduleItem} list.
+ * Items are created on access only, and JSON is written straight from the arrays, so a cached
+ * schedule can be shared by any number of responses. Amounts are exposed with a scale of two.
+ */
+@JsonSerialize(using = CompactPaymentSchedule.Serializer.class)
+public final class CompactPaymentSchedule extends AbstractList<PaymentScheduleItem> implements RandomAccess {
+
+    /**
+     * Amounts from this bound on may overflow cents arithmetic.
+     */
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE / 1000, 2);
+
+    private final LocalDate startDate;
+    private final int size;
+    private final long[] totalPayment;
+    private final long[] interest;
+    private final long[] principal;
+    private final long[] remainingBalance;
+
+    private CompactPaymentSchedule(Builder builder) {
+        this.startDate = builder.startDate;
+        this.size = builder.size;
+        this.totalPayment = Arrays.copyOf(builder.totalPayment, size);
+        this.interest = Arrays.copyOf(builder.interest, size);
+        this.principal = Arrays.copyOf(builder.principal, size);
+        this.remainingBalance = Arrays.copyOf(builder.remainingBalance, size);
+    }
+
+    /**
+     * @param loanAmount Loan amount of the schedule
+     * @return Whether every amount of a generated schedule is a whole number of cents within range
+     */
+    public static boolean supports(BigDecimal loanAmount) {
+        return loanAmount.stripTrailingZeros().scale() <= 2 && loanAmount.abs().compareTo(MAX_AMOUNT) < 0;
+    }
+
+    /**
+     * @param startDate Date the payment dates are counted from, one month per payment
+     * @param capacity  Expected number of payments
+     */
+    public static Builder builder(LocalDate startDate, int capacity) {
+        return new Builder(startDate, capacity);
+    }
+
+    @Override
+    public PaymentScheduleItem get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return PaymentScheduleItem.builder()
+                .number(index + 1)
+                .date(date(index).toString())
+                .totalPayment(BigDecimal.valueOf(totalPayment[index], 2))
+                .interest(BigDecimal.valueOf(interest[index], 2))
+                .principal(BigDecimal.valueOf(principal[index], 2))
+                .remainingBalance(BigDecimal.valueOf(remainingBalance[index], 2))
+                .build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private LocalDate date(int index) {
+        return startDate.plusMonths(index + 1L);
+    }
+
+    public static final class Builder {
+        private final LocalDate startDate;
+        private int size;
+        private long[] totalPayment;
+        private long[] interest;
+        private long[] principal;
+        private long[] remainingBalance;
+
+        private Builder(LocalDate startDate, int capacity) {
+            this.startDate = startDate;
+            this.totalPayment = new long[capacity];
+            this.interest = new long[capacity];
+            this.principal = new long[capacity];
+            this.remainingBalance = new long[capacity];
+        }
+
+        /**
+         * Appends the next payment.
+         *
+         * @throws IllegalArgumentException When the date is not one month after the previous payment
+         * @throws ArithmeticException      When an amount is not a whole number of cents or out of range
+         */
+        public Builder add(LocalDate date, BigDecimal totalPayment, BigDecimal interest,
+                           BigDecimal principal, BigDecimal remainingBalance) {
+            if (!date.equals(startDate.plusMonths(size + 1L))) {
+                throw new IllegalArgumentException("Payment " + (size + 1) + " is not due on " + date);
+            }
+            if (size == this.totalPayment.length) {
+                int capacity = Math.max(size * 2, 12);
+                this.totalPayment = Arrays.copyOf(this.totalPayment, capacity);
+                this.interest = Arrays.copyOf(this.interest, capacity);
+                this.principal = Arrays.copyOf(this.principal, capacity);
+                this.remainingBalance = Arrays.copyOf(this.remainingBalance, capacity);
+            }
+            this.totalPayment[size] = toCents(totalPayment);
+            this.interest[size] = toCents(interest);
+            this.principal[size] = toCents(principal);
+            this.remainingBalance[size] = toCents(remainingBalance);
+            size++;
+            return this;
+        }
+
+        public CompactPaymentSchedule build() {
+            return new CompactPaymentSchedule(this);
+        }
+
+        private static long toCents(BigDecimal amount) {
+            return amount.movePointRight(2).longValueExact();
+        }
+    }
+
+    public static final class Serializer extends StdSerializer<CompactPaymentSchedule> {
+
+        public Serializer() {
+            super(CompactPaymentSchedule.class);
+        }
+
+        @Override
+        public void serialize(CompactPaymentSchedule schedule, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray(schedule, schedule.size);
+            for (int i = 0; i < schedule.size; i++) {
+                generator.writeStartObject();
+                generator.writeNumberField("number", i + 1);
+                generator.writeStringField("date", schedule.date(i).toString());
+                generator.writeNumberField("totalPayment", BigDecimal.valueOf(schedule.totalPayment[i], 2));
+                generator.writeNumberField("interest", BigDecimal.valueOf(schedule.interest[i], 2));
+                generator.writeNumberField("principal", BigDecimal.valueOf(schedule.principal[i], 2));
+                generator.writeNumberField("remainingBalance", BigDecimal.valueOf(schedule.remainingBalance[i], 2));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
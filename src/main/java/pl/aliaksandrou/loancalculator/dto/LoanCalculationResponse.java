@@ -7,12 +7,16 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
 @Setter
 @Getter
 @Builder
 @Schema(description = "Response containing loan calculation results")
 public class LoanCalculationResponse {
+    @Schema(description = "Identifier of the stored loan, empty when persistence is disabled", example = "3f1c2a4e-8b7d-4c1e-9a2f-5d6e7f8a9b0c")
+    private UUID loanId;
+
     @Schema(description = "Loan amount", example = "100000")
     private BigDecimal loanAmount;
 
@@ -0,0 +1,35 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+@Builder
+@Schema(description = "Response containing loan payment totals without the payment schedule")
+public class LoanCalculationSummaryResponse {
+    @Schema(description = "Loan amount", example = "100000")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Annual interest rate in percentage", example = "5.5")
+    private BigDecimal interestRate;
+
+    @Schema(description = "Loan term in months", example = "360")
+    private int term;
+
+    @Schema(description = "Monthly payment amount", example = "567.79")
+    private BigDecimal monthlyPayment;
+
+    @Schema(description = "Last payment amount, which clears the remaining balance", example = "566.61")
+    private BigDecimal finalPayment;
+
+    @Schema(description = "Sum of all payments", example = "204403.22")
+    private BigDecimal totalPayment;
+
+    @Schema(description = "Sum of interest over all payments", example = "104403.22")
+    private BigDecimal totalInterest;
+}
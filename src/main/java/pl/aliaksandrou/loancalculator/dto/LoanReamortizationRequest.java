@@ -0,0 +1,21 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request for re-amortization of a stored loan")
+public class LoanReamortizationRequest {
+    @Schema(description = "Events to apply to the loan schedule", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<ScheduleEvent> events;
+}
@@ -0,0 +1,37 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Setter
+@Getter
+@Builder
+@Schema(description = "Response containing the recomputed tail of a loan schedule")
+public class LoanReamortizationResponse {
+    @Schema(description = "Identifier of the original loan", example = "3f1c2a4e-8b7d-4c1e-9a2f-5d6e7f8a9b0c")
+    private UUID loanId;
+
+    @Schema(description = "Identifier of the stored revision", example = "7a8b9c0d-1e2f-4a3b-8c4d-5e6f7a8b9c0d")
+    private UUID revisionId;
+
+    @Schema(description = "First recomputed payment number, earlier payments are unchanged", example = "300")
+    private int effectiveFromMonth;
+
+    @Schema(description = "Annual interest rate in percentage after all events", example = "4.25")
+    private BigDecimal interestRate;
+
+    @Schema(description = "Loan term in months after all events", example = "360")
+    private int term;
+
+    @Schema(description = "Monthly payment after all events", example = "512.34")
+    private BigDecimal monthlyPayment;
+
+    @Schema(description = "Recomputed payments starting from the effective month")
+    private List<PaymentScheduleItem> payments;
+}
@@ -0,0 +1,26 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "Request for solving one loan parameter from a target monthly payment, the omitted parameter is solved for")
+public class LoanSolveRequest {
+    @Schema(description = "Target monthly payment", example = "2000", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal targetMonthlyPayment;
+
+    @Schema(description = "Loan amount, omit to solve for the maximum amount", example = "300000")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Annual interest rate in percentage, omit to solve for the maximum rate", example = "5.5")
+    private BigDecimal interestRate;
+
+    @Schema(description = "Loan term in months, omit to solve for the minimum term", example = "360")
+    private Integer term;
+}
@@ -0,0 +1,29 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+@Builder
+@Schema(description = "Response containing the solved loan parameters")
+public class LoanSolveResponse {
+    @Schema(description = "Parameter that was solved for", example = "LOAN_AMOUNT")
+    private SolveTarget solvedFor;
+
+    @Schema(description = "Loan amount", example = "352242.82")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Annual interest rate in percentage", example = "5.5")
+    private BigDecimal interestRate;
+
+    @Schema(description = "Loan term in months", example = "360")
+    private int term;
+
+    @Schema(description = "Monthly payment for the solved parameters, never above the target", example = "2000.00")
+    private BigDecimal monthlyPayment;
+}
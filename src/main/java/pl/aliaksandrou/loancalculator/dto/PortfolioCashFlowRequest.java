@@ -0,0 +1,45 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "Request for aggregating the projected cash flows of stored loans, "
+        + "selected by identifiers, filters or both")
+public class PortfolioCashFlowRequest {
+    @Schema(description = "Identifiers of the loans, omit to select all loans matching the filters")
+    private List<UUID> loanIds;
+
+    @Schema(description = "Minimum loan amount", example = "50000")
+    private BigDecimal minLoanAmount;
+
+    @Schema(description = "Maximum loan amount", example = "500000")
+    private BigDecimal maxLoanAmount;
+
+    @Schema(description = "Minimum annual interest rate in percentage", example = "3")
+    private BigDecimal minInterestRate;
+
+    @Schema(description = "Maximum annual interest rate in percentage", example = "7.5")
+    private BigDecimal maxInterestRate;
+
+    @Schema(description = "Minimum term in months", example = "120")
+    private Integer minTerm;
+
+    @Schema(description = "Maximum term in months", example = "360")
+    private Integer maxTerm;
+
+    @Schema(description = "First month of the projection, defaults to the current month", type = "string", example = "2025-01")
+    private YearMonth from;
+
+    @Schema(description = "Number of monthly buckets, defaults to 360", example = "360")
+    private Integer months;
+}
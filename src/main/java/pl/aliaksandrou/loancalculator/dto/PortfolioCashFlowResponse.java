@@ -0,0 +1,37 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+@Setter
+@Getter
+@Builder
+@Schema(description = "Response containing projected monthly portfolio inflows")
+public class PortfolioCashFlowResponse {
+    @Schema(description = "First month of the projection", type = "string", example = "2025-01")
+    private YearMonth from;
+
+    @Schema(description = "Number of monthly buckets", example = "360")
+    private int months;
+
+    @Schema(description = "Number of aggregated loans", example = "25000")
+    private long loanCount;
+
+    @Schema(description = "Sum of interest within the projection", example = "1520334.12")
+    private BigDecimal totalInterest;
+
+    @Schema(description = "Sum of principal within the projection", example = "7345120.55")
+    private BigDecimal totalPrincipal;
+
+    @Schema(description = "Aggregation time in milliseconds", example = "850")
+    private long elapsedMillis;
+
+    @Schema(description = "Inflows per month, one entry for every month of the projection")
+    private List<CashFlowMonth> cashFlows;
+}
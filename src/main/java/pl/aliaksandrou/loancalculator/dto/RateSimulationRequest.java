@@ -0,0 +1,48 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "Request for a Monte Carlo simulation of a variable-rate loan")
+public class RateSimulationRequest {
+    @Schema(description = "Loan amount", example = "100000", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Annual interest rate in percentage for the first reset period", example = "5.5",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal initialRate;
+
+    @Schema(description = "Loan term in months", example = "360", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int term;
+
+    @Schema(description = "Number of months between rate resets, defaults to 12", example = "12")
+    private Integer resetPeriod;
+
+    @Schema(description = "Long-term annual rate in percentage the rate reverts to, defaults to the initial rate",
+            example = "4.0")
+    private BigDecimal longTermRate;
+
+    @Schema(description = "Mean reversion speed per year, defaults to 0", example = "0.3")
+    private BigDecimal meanReversion;
+
+    @Schema(description = "Rate volatility in percentage points per square root of a year, defaults to 0",
+            example = "1.2")
+    private BigDecimal volatility;
+
+    @Schema(description = "Number of simulated rate paths, defaults to 10000", example = "100000")
+    private Integer paths;
+
+    @Schema(description = "Random seed, the same seed always produces the same result", example = "42")
+    private Long seed;
+
+    @Schema(description = "Percentiles to report, defaults to 5, 25, 50, 75 and 95", example = "[5, 50, 95]")
+    private List<BigDecimal> percentiles;
+}
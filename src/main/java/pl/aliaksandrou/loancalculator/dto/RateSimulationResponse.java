@@ -0,0 +1,34 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Setter
+@Getter
+@Builder
+@Schema(description = "Response containing percentile curves of a variable-rate loan simulation")
+public class RateSimulationResponse {
+    @Schema(description = "Loan amount", example = "100000")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Loan term in months", example = "360")
+    private int term;
+
+    @Schema(description = "Number of simulated rate paths", example = "100000")
+    private int paths;
+
+    @Schema(description = "Random seed used for the simulation", example = "42")
+    private long seed;
+
+    @Schema(description = "Payment and balance percentiles at every rate reset")
+    private List<SimulationPoint> points;
+
+    @Schema(description = "Percentiles of the total interest paid over the whole term")
+    private Map<String, BigDecimal> totalInterest;
+}
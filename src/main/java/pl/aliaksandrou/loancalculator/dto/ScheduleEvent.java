@@ -0,0 +1,29 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "Event changing the loan schedule from a given payment")
+public class ScheduleEvent {
+    @Schema(description = "Payment number the event applies to", example = "300", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int month;
+
+    @Schema(description = "Event type", example = "PREPAYMENT", requiredMode = Schema.RequiredMode.REQUIRED)
+    private ScheduleEventType type;
+
+    @Schema(description = "Extra principal paid with the payment, required for PREPAYMENT", example = "5000")
+    private BigDecimal amount;
+
+    @Schema(description = "New annual interest rate in percentage, required for RATE_CHANGE", example = "4.25")
+    private BigDecimal interestRate;
+
+    @Schema(description = "New total term in months, required for TERM_CHANGE", example = "300")
+    private Integer term;
+}
@@ -0,0 +1,10 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Type of a loan schedule event")
+public enum ScheduleEventType {
+    PREPAYMENT,
+    RATE_CHANGE,
+    TERM_CHANGE
+}
@@ -0,0 +1,24 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "Simulated distribution at a rate reset")
+public class SimulationPoint {
+    @Schema(description = "Payment number the reset applies from", example = "13")
+    private int month;
+
+    @Schema(description = "Percentiles of the re-amortized monthly payment")
+    private Map<String, BigDecimal> payment;
+
+    @Schema(description = "Percentiles of the remaining balance before the payment")
+    private Map<String, BigDecimal> balance;
+}
@@ -0,0 +1,10 @@
+package pl.aliaksandrou.loancalculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Loan parameter solved for a target monthly payment")
+public enum SolveTarget {
+    LOAN_AMOUNT,
+    INTEREST_RATE,
+    TERM
+}
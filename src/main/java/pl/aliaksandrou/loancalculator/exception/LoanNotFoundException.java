@@ -0,0 +1,10 @@
+package pl.aliaksandrou.loancalculator.exception;
+
+import java.util.UUID;
+
+public class LoanNotFoundException extends RuntimeException {
+
+    public LoanNotFoundException(UUID loanId) {
+        super("Loan not found: " + loanId);
+    }
+}
@@ -0,0 +1,76 @@
+package pl.aliaksandrou.loancalculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * Flight recorder event spanning one loan schedule calculation, from the cache lookup to the response.
+ * When no recording has the event enabled, {@link #isEnabled()} is false, fields are not filled in
+ * and the clock is not read, so the event costs a single allocation per calculation.
+ */
+@Setter
+@Name("pl.aliaksandrou.loancalculator.LoanCalculation")
+@Label("Loan Calculation")
+@Category({"Loan Calculator"})
+@Description("Loan schedule calculation with the time spent in the database and in schedule generation")
+@StackTrace(false)
+public class LoanCalculationEvent extends Event {
+
+    @Label("Loan Amount")
+    private double loanAmount;
+
+    @Label("Interest Rate")
+    private double interestRate;
+
+    @Label("Term")
+    private int term;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    @Label("Loan Created")
+    @Description("Whether the loan was not stored yet and its schedule was generated")
+    private boolean loanCreated;
+
+    @Label("Database Lookup Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long dbLookupDuration;
+
+    @Label("Schedule Read Duration")
+    @Description("Time to load the payment schedule of a stored loan and convert it for the response")
+    @Timespan(Timespan.NANOSECONDS)
+    private long scheduleReadDuration;
+
+    @Label("Schedule Generation Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long scheduleGenerationDuration;
+
+    @Label("Schedule Rows")
+    @Description("Payment rows in the response, zero when a stored loan was returned without its schedule")
+    private int rows;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    /**
+     * @return Start mark for {@link #elapsedSince}, the clock is read only while the event is enabled
+     */
+    public long mark() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * @param mark Value returned by {@link #mark()}
+     * @return Nanoseconds since the mark, zero while the event is disabled
+     */
+    public long elapsedSince(long mark) {
+        return isEnabled() ? System.nanoTime() - mark : 0L;
+    }
+}
@@ -16,9 +16,21 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "loan", uniqueConstraints = {
         @UniqueConstraint(name = "unique_loan", columnNames = {"loan_amount", "interest_rate", "term"})
+}, indexes = {
+        @Index(name = "idx_loan_last_accessed_at", columnList = "last_accessed_at")
 })
 public class Loan {
 
+    /**
+     * Highest loan amount the {@code loan_amount} column can hold.
+     */
+    public static final BigDecimal MAX_LOAN_AMOUNT = new BigDecimal("99999999999999999.99");
+
+    /**
+     * Highest rate the {@code interest_rate} column can hold.
+     */
+    public static final BigDecimal MAX_INTEREST_RATE = new BigDecimal("999.99");
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
@@ -35,6 +47,9 @@ public class Loan {
     @Column(name = "created_at", nullable = false)
     private LocalDate createdAt;
 
+    @Column(name = "last_accessed_at")
+    private LocalDate lastAccessedAt;
+
     @OneToMany(mappedBy = "loan", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("paymentNumber ASC")
     private List<LoanPaymentSchedule> paymentSchedule = new ArrayList<>();
@@ -47,5 +62,8 @@ public class Loan {
         if (createdAt == null) {
             createdAt = LocalDate.now();
         }
+        if (lastAccessedAt == null) {
+            lastAccessedAt = createdAt;
+        }
     }
 }
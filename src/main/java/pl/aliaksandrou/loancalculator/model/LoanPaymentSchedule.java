@@ -12,7 +12,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "loan_payment_schedule")
+@Table(name = "loan_payment_schedule", indexes = {
+        @Index(name = "idx_schedule_loan_payment_number", columnList = "loan_id, payment_number")
+})
 public class LoanPaymentSchedule {
 
     @Id
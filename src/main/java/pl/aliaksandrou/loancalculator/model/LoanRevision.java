@@ -0,0 +1,61 @@
+package pl.aliaksandrou.loancalculator.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Re-amortized tail of a loan schedule. Payments before {@code startMonth} are still
+ * read from the original loan schedule or the previous revision, only the recomputed
+ * payments are stored here.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "loan_revision", uniqueConstraints = {
+        @UniqueConstraint(name = "unique_loan_revision_start_month", columnNames = {"loan_id", "start_month"})
+})
+public class LoanRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loan_id", nullable = false)
+    private Loan loan;
+
+    @Column(name = "start_month", nullable = false)
+    private Integer startMonth;
+
+    @Column(name = "interest_rate", nullable = false, precision = 5, scale = 2)
+    private BigDecimal interestRate;
+
+    @Column(name = "term", nullable = false)
+    private Integer term;
+
+    @Column(name = "monthly_payment", nullable = false, precision = 19, scale = 2)
+    private BigDecimal monthlyPayment;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDate createdAt;
+
+    @OneToMany(mappedBy = "revision", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("paymentNumber ASC")
+    @Builder.Default
+    private List<LoanRevisionPayment> payments = new ArrayList<>();
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDate.now();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.aliaksandrou.loancalculator.model.Loan;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class JpaLoanStore implements LoanStore {
+
+    private final LoanRepository loanRepository;
+    private final ObjectProvider<LoanLookupBatcher> loanLookupBatcher;
+    private final AtomicReference<AccessDay> accessDay = new AtomicReference<>(new AccessDay(LocalDate.now()));
+
+    @Override
+    public Optional<Loan> findLoan(BigDecimal loanAmount, BigDecimal interestRate, int term) {
+        LoanLookupBatcher batcher = loanLookupBatcher.getIfAvailable();
+        Optional<Loan> existingLoanOpt = batcher != null
+                ? await(batcher.find(loanAmount, interestRate, term), loanAmount, interestRate, term)
+                : loanRepository.findByLoanAmountAndInterestRateAndTerm(loanAmount, interestRate, term);
+        existingLoanOpt.ifPresent(loan -> {
+            // The stored date is current, only a loan not yet accessed today needs the update
+            if (markAccessed(loan.getId()) && isBeforeToday(loan.getLastAccessedAt())) {
+                loanRepository.updateLastAccessedAt(loan.getId(), LocalDate.now());
+            }
+        });
+        return existingLoanOpt;
+    }
+
+    /**
+     * Waits for the batched lookup, which is bounded by the batcher timeout, and looks the loan
+     * up on its own when the batch failed or took too long.
+     */
+    private Optional<Loan> await(CompletableFuture<Optional<Loan>> lookup, BigDecimal loanAmount,
+                                 BigDecimal interestRate, int term) {
+        try {
+            return lookup.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Batched lookup of loan {}-{}-{} failed, querying it directly",
+                    loanAmount, interestRate, term, e.getCause() != null ? e.getCause() : e);
+            return loanRepository.findByLoanAmountAndInterestRateAndTerm(loanAmount, interestRate, term);
+        }
+    }
+
+    @Override
+    public void recordAccess(UUID loanId) {
+        if (markAccessed(loanId)) {
+            loanRepository.updateLastAccessedAt(loanId, LocalDate.now());
+        }
+    }
+
+    /**
+     * @return Whether the loan is accessed for the first time today by this instance
+     */
+    private boolean markAccessed(UUID loanId) {
+        LocalDate today = LocalDate.now();
+        AccessDay current = accessDay.get();
+        if (!current.day().equals(today)) {
+            AccessDay next = new AccessDay(today);
+            current = accessDay.compareAndSet(current, next) ? next : accessDay.get();
+        }
+        return current.loanIds().add(loanId);
+    }
+
+    private static boolean isBeforeToday(LocalDate date) {
+        return date == null || date.isBefore(LocalDate.now());
+    }
+
+    /**
+     * Loans accessed on one day. Replaced on the first access of the next day, so it holds at
+     * most the loans accessed in one day.
+     */
+    private record AccessDay(LocalDate day, Set<UUID> loanIds) {
+
+        AccessDay(LocalDate day) {
+            this(day, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        return loanRepository.save(loan);
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return true;
+    }
+}
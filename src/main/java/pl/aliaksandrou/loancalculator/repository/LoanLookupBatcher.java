@@ -0,0 +1,168 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.criteria.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import pl.aliaksandrou.loancalculator.model.Loan;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves concurrent loan lookups for different parameters with one query per batch instead of
+ * one query per lookup. The first lookup of a batch waits at most the configured window for
+ * others to join, a full batch is resolved right away.
+ * <p>
+ * The query matches the requested amount, rate and term tuples, so only the requested loans are
+ * read with their schedules. They are handed back by comparing the values numerically.
+ * <p>
+ * Publishes the {@code loan.lookup.batch.size} distribution, the {@code loan.lookup.batch.wait}
+ * time a lookup spent queued and the {@code loan.lookup.batch.query} time of the batch query.
+ */
+@Slf4j
+public class LoanLookupBatcher implements AutoCloseable {
+
+    private final LoanRepository loanRepository;
+    private final long windowNanos;
+    private final long timeoutNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSize;
+    private final Timer waitTime;
+    private final Timer queryTime;
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public LoanLookupBatcher(LoanRepository loanRepository, Duration window, int maxBatchSize, Duration timeout,
+                             MeterRegistry meterRegistry) {
+        if (window.isNegative() || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Window must not be negative and max batch size must be positive");
+        }
+        if (timeout.compareTo(window) <= 0) {
+            throw new IllegalArgumentException("Timeout must be longer than the window");
+        }
+        this.loanRepository = loanRepository;
+        this.windowNanos = window.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("loan.lookup.batch.size")
+                .description("Loan lookups resolved by one query")
+                .register(meterRegistry);
+        this.waitTime = Timer.builder("loan.lookup.batch.wait")
+                .description("Time a loan lookup waited for its batch to be resolved")
+                .register(meterRegistry);
+        this.queryTime = Timer.builder("loan.lookup.batch.query")
+                .description("Time of the query resolving a batch of loan lookups")
+                .register(meterRegistry);
+        this.worker = Thread.ofPlatform().name("loan-lookup-batcher").daemon().start(this::run);
+    }
+
+    /**
+     * @return Future completed with the stored loan with the given parameters once its batch is resolved,
+     * or with a {@link java.util.concurrent.TimeoutException} when that takes longer than the timeout
+     */
+    public CompletableFuture<Optional<Loan>> find(BigDecimal loanAmount, BigDecimal interestRate, int term) {
+        PendingLookup lookup = new PendingLookup(loanAmount, interestRate, term, System.nanoTime(),
+                new CompletableFuture<Optional<Loan>>().orTimeout(timeoutNanos, TimeUnit.NANOSECONDS));
+        queue.add(lookup);
+        if (closed) {
+            failPending();
+        }
+        return lookup.future();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        failPending();
+    }
+
+    private void failPending() {
+        List<PendingLookup> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        failAll(pending, new IllegalStateException("Loan lookup batcher is stopped"));
+    }
+
+    /**
+     * Every failure fails the current batch only, the worker keeps serving the following ones.
+     */
+    private void run() {
+        List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                collect(batch);
+                resolve(batch);
+            } catch (InterruptedException e) {
+                failAll(batch, new IllegalStateException("Loan lookup batcher is stopped"));
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                log.warn("Batch of {} loan lookups failed", batch.size(), e);
+                failAll(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingLookup> batch) throws InterruptedException {
+        PendingLookup first = queue.take();
+        batch.add(first);
+        long deadline = first.enqueuedAt() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingLookup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void resolve(List<PendingLookup> batch) {
+        long dispatchedAt = System.nanoTime();
+        batchSize.record(batch.size());
+        batch.forEach(lookup -> waitTime.record(dispatchedAt - lookup.enqueuedAt(), TimeUnit.NANOSECONDS));
+        List<Loan> loans = queryTime.record(() -> loanRepository.findAll(matchingAny(batch)));
+        log.debug("Resolved {} loan lookups with one query", batch.size());
+        for (PendingLookup lookup : batch) {
+            lookup.future().complete(loans.stream().filter(lookup::matches).findFirst());
+        }
+    }
+
+    /**
+     * {@code (amount = ? and rate = ? and term = ?) or ...} over the lookups of the batch.
+     */
+    private static Specification<Loan> matchingAny(List<PendingLookup> batch) {
+        return (root, query, cb) -> cb.or(batch.stream()
+                .map(lookup -> cb.and(
+                        cb.equal(root.get("loanAmount"), lookup.loanAmount()),
+                        cb.equal(root.get("interestRate"), lookup.interestRate()),
+                        cb.equal(root.get("term"), lookup.term())))
+                .toArray(Predicate[]::new));
+    }
+
+    private static void failAll(List<PendingLookup> lookups, Throwable failure) {
+        lookups.forEach(lookup -> lookup.future().completeExceptionally(failure));
+    }
+
+    private record PendingLookup(BigDecimal loanAmount, BigDecimal interestRate, int term, long enqueuedAt,
+                                 CompletableFuture<Optional<Loan>> future) {
+
+        boolean matches(Loan loan) {
+            return loan.getTerm() == term
+                    && loan.getLoanAmount().compareTo(loanAmount) == 0
+                    && loan.getInterestRate().compareTo(interestRate) == 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pl.aliaksandrou.loancalculator.model.LoanPaymentSchedule;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LoanPaymentScheduleRepository extends JpaRepository<LoanPaymentSchedule, UUID> {
+    Optional<LoanPaymentSchedule> findByLoanIdAndPaymentNumber(UUID loanId, Integer paymentNumber);
+
+    @Modifying
+    @Query("delete from LoanPaymentSchedule s where s.loan.id in :loanIds")
+    int deleteByLoanIds(@Param("loanIds") Collection<UUID> loanIds);
+}
@@ -1,14 +1,87 @@
 package pl.aliaksandrou.loancalculator.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import pl.aliaksandrou.loancalculator.model.Loan;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface LoanRepository extends JpaRepository<Loan, UUID> {
+public interface LoanRepository extends JpaRepository<Loan, UUID>, JpaSpecificationExecutor<Loan> {
+
+    String SELECT_LOAN_TERMS = "select new pl.aliaksandrou.loancalculator.repository.LoanTerms("
+            + "l.id, l.loanAmount, l.interestRate, l.term, l.monthlyPayment, l.createdAt) from Loan l ";
+    String LOAN_TERMS_FILTER = "and l.loanAmount between :minLoanAmount and :maxLoanAmount "
+            + "and l.interestRate between :minInterestRate and :maxInterestRate "
+            + "and l.term between :minTerm and :maxTerm ";
+
     Optional<Loan> findByLoanAmountAndInterestRateAndTerm(BigDecimal loanAmount, BigDecimal interestRate, Integer term);
+
+    /**
+     * Loans matching the specification, fetched with their payment schedules so they can be used
+     * outside of the persistence context that loaded them.
+     */
+    @Override
+    @EntityGraph(attributePaths = "paymentSchedule")
+    List<Loan> findAll(Specification<Loan> spec);
+
+    @Transactional
+    @Modifying
+    @Query("update Loan l set l.lastAccessedAt = :today where l.id = :id and (l.lastAccessedAt is null or l.lastAccessedAt < :today)")
+    int updateLastAccessedAt(@Param("id") UUID id, @Param("today") LocalDate today);
+
+    /**
+     * Locks the loan so that concurrent re-amortizations of it are applied one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from Loan l where l.id = :id")
+    Optional<Loan> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Locks a batch of loans not accessed since the cutoff. Rows locked by concurrent
+     * transactions are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select l from Loan l where coalesce(l.lastAccessedAt, l.createdAt) < :cutoff order by l.id")
+    List<Loan> findExpiredLoans(@Param("cutoff") LocalDate cutoff, Pageable pageable);
+
+    /**
+     * Keyset page of loan terms ordered by id, starting after the given id.
+     */
+    @Query(SELECT_LOAN_TERMS + "where l.id > :afterId " + LOAN_TERMS_FILTER + "order by l.id")
+    List<LoanTerms> findLoanTermsAfter(@Param("afterId") UUID afterId,
+                                       @Param("minLoanAmount") BigDecimal minLoanAmount,
+                                       @Param("maxLoanAmount") BigDecimal maxLoanAmount,
+                                       @Param("minInterestRate") BigDecimal minInterestRate,
+                                       @Param("maxInterestRate") BigDecimal maxInterestRate,
+                                       @Param("minTerm") int minTerm,
+                                       @Param("maxTerm") int maxTerm,
+                                       Pageable pageable);
+
+    @Query(SELECT_LOAN_TERMS + "where l.id in :ids " + LOAN_TERMS_FILTER)
+    List<LoanTerms> findLoanTermsByIds(@Param("ids") Collection<UUID> ids,
+                                       @Param("minLoanAmount") BigDecimal minLoanAmount,
+                                       @Param("maxLoanAmount") BigDecimal maxLoanAmount,
+                                       @Param("minInterestRate") BigDecimal minInterestRate,
+                                       @Param("maxInterestRate") BigDecimal maxInterestRate,
+                                       @Param("minTerm") int minTerm,
+                                       @Param("maxTerm") int maxTerm);
 }
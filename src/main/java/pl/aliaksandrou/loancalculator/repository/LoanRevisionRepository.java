@@ -0,0 +1,31 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pl.aliaksandrou.loancalculator.model.LoanRevision;
+import pl.aliaksandrou.loancalculator.model.LoanRevisionPayment;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LoanRevisionRepository extends JpaRepository<LoanRevision, UUID> {
+
+    Optional<LoanRevision> findFirstByLoanIdOrderByStartMonthDesc(UUID loanId);
+
+    @Query("select p from LoanRevisionPayment p where p.revision.id = :revisionId and p.paymentNumber = :paymentNumber")
+    Optional<LoanRevisionPayment> findPayment(@Param("revisionId") UUID revisionId,
+                                              @Param("paymentNumber") Integer paymentNumber);
+
+    @Modifying
+    @Query("delete from LoanRevisionPayment p where p.revision.id in (select r.id from LoanRevision r where r.loan.id in :loanIds)")
+    int deletePaymentsByLoanIds(@Param("loanIds") Collection<UUID> loanIds);
+
+    @Modifying
+    @Query("delete from LoanRevision r where r.loan.id in :loanIds")
+    int deleteByLoanIds(@Param("loanIds") Collection<UUID> loanIds);
+}
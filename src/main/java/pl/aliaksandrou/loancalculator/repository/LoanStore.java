@@ -0,0 +1,35 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import pl.aliaksandrou.loancalculator.model.Loan;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage of calculated loans, selected with {@code loan.persistence.enabled}.
+ * Schedules are a deterministic function of the loan parameters, so a store that keeps nothing
+ * yields the same responses as the database, served from compute and the in-process cache.
+ */
+public interface LoanStore {
+
+    /**
+     * @return Stored loan with the given parameters, whose lookup extends its retention
+     */
+    Optional<Loan> findLoan(BigDecimal loanAmount, BigDecimal interestRate, int term);
+
+    /**
+     * Extends the retention of a stored loan served without a lookup, at most once per loan and day.
+     */
+    void recordAccess(UUID loanId);
+
+    /**
+     * @return Stored loan, or the given loan unchanged when nothing is persisted
+     */
+    Loan save(Loan loan);
+
+    /**
+     * @return Whether saved loans and their payment schedules are kept
+     */
+    boolean isPersistent();
+}
@@ -0,0 +1,13 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Scalar projection of the loan columns its payment schedule is generated from, read without
+ * the stored payments.
+ */
+public record LoanTerms(UUID id, BigDecimal loanAmount, BigDecimal interestRate, Integer term,
+                        BigDecimal monthlyPayment, LocalDate createdAt) {
+}
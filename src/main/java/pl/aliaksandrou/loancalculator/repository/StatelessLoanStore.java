@@ -0,0 +1,36 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.aliaksandrou.loancalculator.model.Loan;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Store of the compute-only mode, which runs without a database: nothing is found and nothing is kept.
+ */
+@Component
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "false")
+public class StatelessLoanStore implements LoanStore {
+
+    @Override
+    public Optional<Loan> findLoan(BigDecimal loanAmount, BigDecimal interestRate, int term) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void recordAccess(UUID loanId) {
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        return loan;
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+}
@@ -0,0 +1,224 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import pl.aliaksandrou.loancalculator.configuration.BulkCalculationProperties;
+import pl.aliaksandrou.loancalculator.dto.BulkCalculationReport;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationSummaryResponse;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class BulkLoanCalculationService {
+
+    static final String HEADER =
+            "line,loanAmount,interestRate,term,monthlyPayment,finalPayment,totalPayment,totalInterest,error";
+    private static final int COLUMNS = 3;
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final LoanCalculationService loanCalculationService;
+    private final ExecutorService bulkCalculationExecutor;
+    private final BulkCalculationProperties bulkCalculationProperties;
+
+    /**
+     * Streams CSV rows of {@code loanAmount,interestRate,term} into CSV result rows.
+     * Rows are calculated in chunks on the bulk executor and written back in input order.
+     * Reading pauses while the configured number of chunks is in flight, so memory use
+     * depends on the chunk settings and not on the size of the input.
+     * Invalid rows and rows that fail to calculate or store are reported in the error column and
+     * do not stop the import.
+     *
+     * @param input   CSV input, an optional header line is skipped
+     * @param output  CSV output
+     * @param persist Whether calculated loans are stored with their payment schedules
+     * @return Row counts and throughput
+     */
+    public BulkCalculationReport calculate(InputStream input, OutputStream output, boolean persist) throws IOException {
+        long start = System.nanoTime();
+        int chunkSize = bulkCalculationProperties.chunkSize();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+        ChunkResult total = new ChunkResult("", 0, 0);
+
+        writer.write(HEADER);
+        writer.write('\n');
+        try {
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                chunk.add(new CsvRow(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    List<CsvRow> rows = chunk;
+                    inFlight.add(bulkCalculationExecutor.submit(() -> calculateChunk(rows, persist)));
+                    chunk = new ArrayList<>(chunkSize);
+                    while (inFlight.size() >= bulkCalculationProperties.maxInFlightChunks()) {
+                        total = total.add(writeChunk(inFlight.poll(), writer));
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<CsvRow> rows = chunk;
+                inFlight.add(bulkCalculationExecutor.submit(() -> calculateChunk(rows, persist)));
+            }
+            while (!inFlight.isEmpty()) {
+                total = total.add(writeChunk(inFlight.poll(), writer));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        BulkCalculationReport report = BulkCalculationReport.builder()
+                .rows(total.rows())
+                .errors(total.errors())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+        writer.write("# rows=" + report.getRows() + ",errors=" + report.getErrors()
+                + ",elapsedMs=" + report.getElapsedMillis() + ",rowsPerSecond=" + report.getRowsPerSecond() + "\n");
+        writer.flush();
+        log.info("Bulk calculation finished: {} rows, {} errors in {} ms ({} rows/s)",
+                report.getRows(), report.getErrors(), report.getElapsedMillis(), report.getRowsPerSecond());
+        return report;
+    }
+
+    private ChunkResult writeChunk(Future<ChunkResult> future, Writer writer) throws IOException {
+        ChunkResult result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk calculation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk calculation failed", e.getCause());
+        }
+        writer.write(result.csv());
+        writer.flush();
+        return result;
+    }
+
+    private ChunkResult calculateChunk(List<CsvRow> rows, boolean persist) {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        int errors = 0;
+        for (CsvRow row : rows) {
+            csv.append(row.lineNumber()).append(',');
+            try {
+                LoanCalculationRequest request = parse(row.line());
+                LoanCalculationSummaryResponse summary = loanCalculationService.calculateLoanSummary(request);
+                if (persist) {
+                    storeLoan(request);
+                }
+                csv.append(summary.getLoanAmount().toPlainString()).append(',')
+                        .append(summary.getInterestRate().toPlainString()).append(',')
+                        .append(summary.getTerm()).append(',')
+                        .append(summary.getMonthlyPayment().toPlainString()).append(',')
+                        .append(summary.getFinalPayment().toPlainString()).append(',')
+                        .append(summary.getTotalPayment().toPlainString()).append(',')
+                        .append(summary.getTotalInterest().toPlainString()).append(",\n");
+            } catch (IllegalArgumentException e) {
+                errors++;
+                appendError(csv, String.valueOf(e.getMessage()));
+            } catch (DataAccessException e) {
+                // The header and earlier rows are already sent, a failing row must not end the response
+                log.warn("Failed to store loan from line {}", row.lineNumber(), e);
+                errors++;
+                appendError(csv, "Loan could not be stored");
+            } catch (RuntimeException e) {
+                log.warn("Failed to calculate line {}", row.lineNumber(), e);
+                errors++;
+                appendError(csv, "Loan could not be calculated");
+            }
+        }
+        return new ChunkResult(csv.toString(), rows.size(), errors);
+    }
+
+    private static void appendError(StringBuilder csv, String message) {
+        csv.append(",,,,,,,\"").append(message.replace("\"", "\"\"")).append("\"\n");
+    }
+
+    private void storeLoan(LoanCalculationRequest request) {
+        try {
+            loanCalculationService.findOrCreateLoan(request);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            log.debug("Loan for request {} was stored concurrently", request);
+        }
+    }
+
+    /**
+     * Only a violated unique key means that the same loan was stored by another row or request,
+     * other integrity violations mean that the loan was not stored.
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LoanCalculationRequest parse(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns: loanAmount,interestRate,term");
+        }
+        try {
+            return LoanCalculationRequest.builder()
+                    .loanAmount(new BigDecimal(columns[0].trim()))
+                    .interestRate(new BigDecimal(columns[1].trim()))
+                    .term(Integer.parseInt(columns[2].trim()))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in row: " + line);
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        char first = line.trim().charAt(0);
+        return !Character.isDigit(first) && first != '-' && first != '+' && first != '.';
+    }
+
+    private record CsvRow(long lineNumber, String line) {
+    }
+
+    private record ChunkResult(String csv, long rows, long errors) {
+
+        ChunkResult add(ChunkResult other) {
+            return new ChunkResult("", rows + other.rows, errors + other.errors);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Long-cents counterpart of the schedule arithmetic in {@link LoanCalculationService}.
+ * Interest is rounded half-up to cents every month exactly like the BigDecimal schedule,
+ * so the amounts are identical whenever {@link #supports} holds.
+ */
+final class CentsAmortization {
+
+    private static final int RATE_SCALE = 10;
+    private static final long RATE_UNIT = 10_000_000_000L;
+    private static final int MAX_PRODUCT_BITS = 62;
+
+    private CentsAmortization() {
+    }
+
+    record Totals(long finalPayment, long totalInterest) {
+    }
+
+    /**
+     * The loan amount must be a whole number of cents and the balance times the monthly rate
+     * must fit into a long.
+     */
+    static boolean supports(BigDecimal loanAmount, BigDecimal monthlyRate) {
+        BigDecimal cents = loanAmount.movePointRight(2);
+        if (cents.stripTrailingZeros().scale() > 0) {
+            return false;
+        }
+        int productBits = cents.toBigInteger().bitLength() + toRateUnits(monthlyRate).bitLength();
+        return productBits < MAX_PRODUCT_BITS;
+    }
+
+    static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    static long toRate(BigDecimal monthlyRate) {
+        return toRateUnits(monthlyRate).longValueExact();
+    }
+
+    static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    static long interest(long balance, long rate) {
+        long product = balance * rate;
+        return product >= 0
+                ? (product + RATE_UNIT / 2) / RATE_UNIT
+                : -((-product + RATE_UNIT / 2) / RATE_UNIT);
+    }
+
+    /**
+     * Runs the schedule recurrence without materializing it. Every payment but the last one
+     * equals the monthly payment, the last one clears the remaining balance.
+     */
+    static Totals totals(long loanAmount, long rate, long monthlyPayment, int term) {
+        long balance = loanAmount;
+        long totalInterest = 0;
+        for (int month = 1; month < term; month++) {
+            long interest = interest(balance, rate);
+            balance -= monthlyPayment - interest;
+            totalInterest += interest;
+        }
+        long lastInterest = interest(balance, rate);
+        return new Totals(balance + lastInterest, totalInterest + lastInterest);
+    }
+
+    private static BigInteger toRateUnits(BigDecimal monthlyRate) {
+        return monthlyRate.setScale(RATE_SCALE).unscaledValue();
+    }
+}
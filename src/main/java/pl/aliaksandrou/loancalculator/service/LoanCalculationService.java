@@ -2,15 +2,18 @@ package pl.aliaksandrou.loancalculator.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import pl.aliaksandrou.loancalculator.dto.CompactPaymentSchedule;
 import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
 import pl.aliaksandrou.loancalculator.dto.LoanCalculationResponse;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationSummaryResponse;
 import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+import pl.aliaksandrou.loancalculator.jfr.LoanCalculationEvent;
 import pl.aliaksandrou.loancalculator.model.Loan;
 import pl.aliaksandrou.loancalculator.model.LoanPaymentSchedule;
-import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+import pl.aliaksandrou.loancalculator.repository.LoanStore;
 import pl.aliaksandrou.loancalculator.validator.LoanCalculationValidator;
 
 import java.math.BigDecimal;
@@ -30,25 +33,103 @@ public class LoanCalculationService {
     private static final int SCALE = 10;
     private static final int RESULT_SCALE = 2;
 
-    private final LoanRepository loanRepository;
+    static final String LOAN_SCHEDULE_CACHE = "loanSchedule";
 
-    @Cacheable(value = "loanSchedule", key = "#request.loanAmount + '-' + #request.interestRate + '-' + #request.term")
+    private final LoanStore loanStore;
+    private final CacheManager cacheManager;
+
+    /**
+     * Returns the loan schedule, from the cache when it was calculated before, otherwise from the
+     * stored loan, which is created with its payment schedule when it does not exist yet.
+     * The cache is used programmatically so that cache hits are visible in {@link LoanCalculationEvent}.
+     *
+     * @param request Loan calculation parameters
+     * @return Loan schedule
+     */
     public LoanCalculationResponse calculateLoanSchedule(LoanCalculationRequest request) {
-        log.info("Calculating loan schedule for request: {}", request);
+        // The cache key is built from the validated parameters
         LoanCalculationValidator.validateRequest(request);
+        LoanCalculationEvent event = new LoanCalculationEvent();
+        event.begin();
+        String cacheKey = cacheKey(request);
+        Cache cache = cacheManager.getCache(LOAN_SCHEDULE_CACHE);
+        LoanCalculationResponse cached = cache != null ? cache.get(cacheKey, LoanCalculationResponse.class) : null;
+        if (cached != null) {
+            event.setCacheHit(true);
+            if (cached.getLoanId() != null) {
+                loanStore.recordAccess(cached.getLoanId());
+            }
+            commit(event, request, cached.getPayments().size());
+            return cached;
+        }
+
+        log.info("Calculating loan schedule for request: {}", request);
+
+        long lookupStart = event.mark();
+        Optional<Loan> existingLoanOpt = findExistingLoan(request);
+        event.setDbLookupDuration(event.elapsedSince(lookupStart));
+        LoanCalculationResponse response;
+        if (existingLoanOpt.isPresent()) {
+            Loan loan = existingLoanOpt.get();
+            long readStart = event.mark();
+            response = buildResponse(loan, toResponsePayments(loan));
+            event.setScheduleReadDuration(event.elapsedSince(readStart));
+        } else {
+            // The response payments come from the same generation pass as the stored schedule
+            LocalDate createdAt = LocalDate.now();
+            Loan loan;
+            if (CompactPaymentSchedule.supports(request.getLoanAmount())) {
+                CompactPaymentSchedule.Builder payments = CompactPaymentSchedule.builder(createdAt, request.getTerm());
+                loan = createNewLoan(request, calculateMonthlyPayment(request), createdAt,
+                        PaymentScheduleSink.toCompact(payments), event);
+                response = buildResponse(loan, payments.build());
+            } else {
+                List<PaymentScheduleItem> payments = new ArrayList<>(request.getTerm());
+                loan = createNewLoan(request, calculateMonthlyPayment(request), createdAt,
+                        PaymentScheduleSink.toItems(payments), event);
+                response = buildResponse(loan, payments);
+            }
+        }
 
-        Optional<Loan> existingLoanOpt = loanRepository.findByLoanAmountAndInterestRateAndTerm(
-                request.getLoanAmount(), request.getInterestRate(), request.getTerm());
+        if (cache != null) {
+            cache.put(cacheKey, response);
+        }
+        commit(event, request, response.getPayments().size());
+        return response;
+    }
+
+    /**
+     * Returns the stored loan for the given parameters, creating it with its payment schedule
+     * when it does not exist yet. Unlike {@link #calculateLoanSchedule}, nothing is cached.
+     * Without persistence, the returned loan is neither stored nor given a schedule.
+     *
+     * @param request Validated loan calculation parameters
+     * @return Stored loan
+     */
+    public Loan findOrCreateLoan(LoanCalculationRequest request) {
+        LoanCalculationEvent event = new LoanCalculationEvent();
+        event.begin();
+        long lookupStart = event.mark();
+        Optional<Loan> existingLoanOpt = findExistingLoan(request);
+        event.setDbLookupDuration(event.elapsedSince(lookupStart));
 
-        Loan loan = existingLoanOpt.orElseGet(() -> {
-            BigDecimal monthlyPayment = calculateMonthlyPayment(request);
-            return createNewLoan(request, monthlyPayment);
-        });
+        if (existingLoanOpt.isPresent()) {
+            // Nothing was generated or read
+            commit(event, request, 0);
+            return existingLoanOpt.get();
+        }
+        BigDecimal monthlyPayment = calculateMonthlyPayment(request);
+        Loan loan = createNewLoan(request, monthlyPayment, LocalDate.now(), PaymentScheduleSink.DISCARD, event);
+        commit(event, request, loan.getTerm());
+        return loan;
+    }
 
-        return buildResponse(loan, loan.getMonthlyPayment());
+    private Optional<Loan> findExistingLoan(LoanCalculationRequest request) {
+        return loanStore.findLoan(request.getLoanAmount(), request.getInterestRate(), request.getTerm());
     }
 
-    private Loan createNewLoan(LoanCalculationRequest request, BigDecimal monthlyPayment) {
+    private Loan createNewLoan(LoanCalculationRequest request, BigDecimal monthlyPayment, LocalDate createdAt,
+                               PaymentScheduleSink responseSink, LoanCalculationEvent event) {
         log.debug("Creating new loan for request: {}", request);
 
         Loan loan = Loan.builder()
@@ -56,26 +137,137 @@ public class LoanCalculationService {
                 .interestRate(request.getInterestRate())
                 .term(request.getTerm())
                 .monthlyPayment(monthlyPayment)
+                .createdAt(createdAt)
                 .build();
 
-        List<LoanPaymentSchedule> paymentSchedules = generatePaymentSchedule(loan, monthlyPayment);
-        loan.setPaymentSchedule(paymentSchedules);
+        long generationStart = event.mark();
+        if (loanStore.isPersistent()) {
+            List<LoanPaymentSchedule> paymentSchedules = new ArrayList<>(request.getTerm());
+            generatePaymentSchedule(request.getLoanAmount(), request.getInterestRate(), request.getTerm(),
+                    monthlyPayment, createdAt, toEntities(loan, paymentSchedules).andThen(responseSink));
+            loan.setPaymentSchedule(paymentSchedules);
+        } else if (responseSink != PaymentScheduleSink.DISCARD) {
+            // Nothing is stored, so no entities are built
+            generatePaymentSchedule(request.getLoanAmount(), request.getInterestRate(), request.getTerm(),
+                    monthlyPayment, createdAt, responseSink);
+        }
+        event.setScheduleGenerationDuration(event.elapsedSince(generationStart));
+        event.setLoanCreated(true);
 
-        return loanRepository.save(loan);
+        long saveStart = event.mark();
+        Loan savedLoan = loanStore.save(loan);
+        event.setSaveDuration(event.elapsedSince(saveStart));
+        return savedLoan;
     }
 
-    private LoanCalculationResponse buildResponse(Loan loan, BigDecimal monthlyPayment) {
+    private static void commit(LoanCalculationEvent event, LoanCalculationRequest request, int rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setLoanAmount(request.getLoanAmount().doubleValue());
+            event.setInterestRate(request.getInterestRate().doubleValue());
+            event.setTerm(request.getTerm());
+            event.setRows(rows);
+            event.commit();
+        }
+    }
+
+    private static String cacheKey(LoanCalculationRequest request) {
+        return cacheKey(request.getLoanAmount(), request.getInterestRate(), request.getTerm());
+    }
+
+    /**
+     * Key of the cached schedule, independent of the scale of the amount and rate so that it can
+     * also be built from a stored loan.
+     */
+    static String cacheKey(BigDecimal loanAmount, BigDecimal interestRate, int term) {
+        return loanAmount.stripTrailingZeros().toPlainString() + "-"
+                + interestRate.stripTrailingZeros().toPlainString() + "-" + term;
+    }
+
+    private LoanCalculationResponse buildResponse(Loan loan, List<PaymentScheduleItem> payments) {
         return LoanCalculationResponse.builder()
+                .loanId(loan.getId())
                 .loanAmount(loan.getLoanAmount())
                 .interestRate(loan.getInterestRate())
-                .monthlyPayment(monthlyPayment)
-                .payments(generatePaymentScheduleResponse(loan.getPaymentSchedule()))
+                .monthlyPayment(loan.getMonthlyPayment())
+                .payments(payments)
                 .build();
     }
 
-    @CacheEvict(value = "loanSchedule", key = "#request.loanAmount + '-' + #request.interestRate + '-' + #request.term")
     public void evictLoanScheduleCache(LoanCalculationRequest request) {
         log.debug("Evicting cache for request: {}", request);
+        Cache cache = cacheManager.getCache(LOAN_SCHEDULE_CACHE);
+        if (cache != null) {
+            cache.evict(cacheKey(request));
+        }
+    }
+
+    /**
+     * Calculates payment totals without generating, storing or caching the schedule.
+     * Every payment but the last one equals the monthly payment, so the totals follow from
+     * the final payment, which clears the balance left after the monthly interest rounding.
+     *
+     * @param request Loan calculation parameters
+     * @return Monthly payment, final payment and totals
+     */
+    public LoanCalculationSummaryResponse calculateLoanSummary(LoanCalculationRequest request) {
+        log.debug("Calculating loan summary for request: {}", request);
+        LoanCalculationValidator.validateRequest(request);
+
+        BigDecimal monthlyPayment = calculateMonthlyPayment(request);
+        BigDecimal monthlyRate = calculateMonthlyRate(request.getInterestRate());
+        PaymentTotals totals = CentsAmortization.supports(request.getLoanAmount(), monthlyRate)
+                ? calculateTotalsInCents(request, monthlyRate, monthlyPayment)
+                : calculateTotals(request, monthlyPayment);
+        BigDecimal totalPayment = monthlyPayment.multiply(BigDecimal.valueOf(request.getTerm() - 1L))
+                .add(totals.finalPayment());
+
+        return LoanCalculationSummaryResponse.builder()
+                .loanAmount(request.getLoanAmount())
+                .interestRate(request.getInterestRate())
+                .term(request.getTerm())
+                .monthlyPayment(monthlyPayment)
+                .finalPayment(totals.finalPayment())
+                .totalPayment(totalPayment)
+                .totalInterest(totals.totalInterest())
+                .build();
+    }
+
+    private PaymentTotals calculateTotalsInCents(LoanCalculationRequest request, BigDecimal monthlyRate,
+                                                 BigDecimal monthlyPayment) {
+        CentsAmortization.Totals totals = CentsAmortization.totals(
+                CentsAmortization.toCents(request.getLoanAmount()),
+                CentsAmortization.toRate(monthlyRate),
+                CentsAmortization.toCents(monthlyPayment),
+                request.getTerm());
+        return new PaymentTotals(
+                CentsAmortization.fromCents(totals.finalPayment()),
+                CentsAmortization.fromCents(totals.totalInterest()));
+    }
+
+    /**
+     * Aggregates the generated schedule for amounts with more than two decimals.
+     */
+    private PaymentTotals calculateTotals(LoanCalculationRequest request, BigDecimal monthlyPayment) {
+        TotalsSink totals = new TotalsSink();
+        generatePaymentSchedule(request.getLoanAmount(), request.getInterestRate(), request.getTerm(),
+                monthlyPayment, LocalDate.now(), totals);
+        return new PaymentTotals(totals.finalPayment, totals.totalInterest);
+    }
+
+    private record PaymentTotals(BigDecimal finalPayment, BigDecimal totalInterest) {
+    }
+
+    private static final class TotalsSink implements PaymentScheduleSink {
+        private BigDecimal finalPayment = BigDecimal.ZERO;
+        private BigDecimal totalInterest = BigDecimal.ZERO;
+
+        @Override
+        public void accept(int number, LocalDate date, BigDecimal totalPayment, BigDecimal interest,
+                           BigDecimal principal, BigDecimal remainingBalance) {
+            finalPayment = totalPayment;
+            totalInterest = totalInterest.add(interest);
+        }
     }
 
     /**
@@ -115,7 +307,13 @@ public class LoanCalculationService {
         return numerator.divide(denominator, RESULT_SCALE, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateMonthlyRate(BigDecimal annualRate) {
+    /**
+     * Converts an annual percentage rate into the monthly rate used for interest accrual.
+     *
+     * @param annualRate Annual interest rate in percentage
+     * @return Monthly interest rate as a fraction
+     */
+    public BigDecimal calculateMonthlyRate(BigDecimal annualRate) {
         return annualRate.divide(PERCENTAGE_DIVISOR, SCALE, RoundingMode.HALF_UP)
                 .divide(MONTHS_IN_YEAR, SCALE, RoundingMode.HALF_UP);
     }
@@ -129,35 +327,52 @@ public class LoanCalculationService {
      * @return List of payment schedules
      */
     public List<LoanPaymentSchedule> generatePaymentSchedule(Loan loan, BigDecimal monthlyPayment) {
-        List<LoanPaymentSchedule> paymentSchedules = new ArrayList<>();
-        BigDecimal remainingBalance = loan.getLoanAmount();
-        BigDecimal monthlyRate = calculateMonthlyRate(loan.getInterestRate());
-
-        for (int month = 1; month <= loan.getTerm(); month++) {
-            LoanPaymentSchedule schedule = createPaymentSchedule(
-                    loan, month, remainingBalance, monthlyRate, monthlyPayment
-            );
-            remainingBalance = schedule.getRemainingBalance();
-            paymentSchedules.add(schedule);
-        }
+        List<LoanPaymentSchedule> paymentSchedules = new ArrayList<>(loan.getTerm());
+        LocalDate startDate = loan.getCreatedAt() != null ? loan.getCreatedAt() : LocalDate.now();
+        generatePaymentSchedule(loan.getLoanAmount(), loan.getInterestRate(), loan.getTerm(), monthlyPayment,
+                startDate, toEntities(loan, paymentSchedules));
         return paymentSchedules;
     }
 
-    private LoanPaymentSchedule createPaymentSchedule(Loan loan, int month, BigDecimal remainingBalance,
-                                                      BigDecimal monthlyRate, BigDecimal monthlyPayment) {
-        BigDecimal interest = remainingBalance.multiply(monthlyRate).setScale(RESULT_SCALE, RoundingMode.HALF_UP);
-        BigDecimal principal = calculatePrincipal(month, loan.getTerm(), remainingBalance, monthlyPayment, interest);
-        BigDecimal newRemainingBalance = calculateNewBalance(month, loan.getTerm(), remainingBalance, principal);
-
-        return LoanPaymentSchedule.builder()
-                .loan(loan)
-                .paymentNumber(month)
-                .paymentDate(LocalDate.now().plusMonths(month))
-                .interest(interest)
-                .principal(principal)
-                .remainingBalance(newRemainingBalance)
-                .totalPayment(month == loan.getTerm() ? principal.add(interest) : monthlyPayment)
-                .build();
+    /**
+     * Generates the payment schedule in a single pass and hands every payment to the sink,
+     * without building any intermediate list.
+     * The last payment clears the balance left after the monthly interest rounding.
+     *
+     * @param loanAmount     Loan amount
+     * @param interestRate   Annual interest rate in percentage
+     * @param term           Term in months
+     * @param monthlyPayment Calculated monthly payment
+     * @param startDate      Date the payment dates are counted from, one month per payment
+     * @param sink           Consumer of the generated payments
+     */
+    public void generatePaymentSchedule(BigDecimal loanAmount, BigDecimal interestRate, int term,
+                                        BigDecimal monthlyPayment, LocalDate startDate, PaymentScheduleSink sink) {
+        BigDecimal remainingBalance = loanAmount;
+        BigDecimal monthlyRate = calculateMonthlyRate(interestRate);
+
+        for (int month = 1; month <= term; month++) {
+            BigDecimal interest = remainingBalance.multiply(monthlyRate).setScale(RESULT_SCALE, RoundingMode.HALF_UP);
+            BigDecimal principal = calculatePrincipal(month, term, remainingBalance, monthlyPayment, interest);
+            BigDecimal newRemainingBalance = calculateNewBalance(month, term, remainingBalance, principal);
+            BigDecimal totalPayment = month == term ? principal.add(interest) : monthlyPayment;
+
+            sink.accept(month, startDate.plusMonths(month), totalPayment, interest, principal, newRemainingBalance);
+            remainingBalance = newRemainingBalance;
+        }
+    }
+
+    private static PaymentScheduleSink toEntities(Loan loan, List<LoanPaymentSchedule> paymentSchedules) {
+        return (number, date, totalPayment, interest, principal, remainingBalance) -> paymentSchedules.add(
+                LoanPaymentSchedule.builder()
+                        .loan(loan)
+                        .paymentNumber(number)
+                        .paymentDate(date)
+                        .interest(interest)
+                        .principal(principal)
+                        .remainingBalance(remainingBalance)
+                        .totalPayment(totalPayment)
+                        .build());
     }
 
     private BigDecimal calculatePrincipal(int month, int term, BigDecimal remainingBalance,
@@ -172,6 +387,29 @@ public class LoanCalculationService {
         return (month == term) ? BigDecimal.ZERO : newBalance;
     }
 
+    /**
+     * Cached responses keep the schedule of a stored loan in compact form whenever its payments
+     * are whole cents due monthly from the creation date, which holds for every generated schedule
+     * of an amount with at most two decimals.
+     */
+    private List<PaymentScheduleItem> toResponsePayments(Loan loan) {
+        List<LoanPaymentSchedule> paymentSchedules = loan.getPaymentSchedule();
+        if (loan.getCreatedAt() != null && CompactPaymentSchedule.supports(loan.getLoanAmount())) {
+            try {
+                CompactPaymentSchedule.Builder payments =
+                        CompactPaymentSchedule.builder(loan.getCreatedAt(), paymentSchedules.size());
+                for (LoanPaymentSchedule schedule : paymentSchedules) {
+                    payments.add(schedule.getPaymentDate(), schedule.getTotalPayment(), schedule.getInterest(),
+                            schedule.getPrincipal(), schedule.getRemainingBalance());
+                }
+                return payments.build();
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                log.debug("Keeping the schedule of loan {} as items: {}", loan.getId(), e.getMessage());
+            }
+        }
+        return generatePaymentScheduleResponse(paymentSchedules);
+    }
+
     private List<PaymentScheduleItem> generatePaymentScheduleResponse(List<LoanPaymentSchedule> paymentSchedules) {
         return paymentSchedules.stream()
                 .map(schedule -> PaymentScheduleItem.builder()
@@ -0,0 +1,206 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationResponse;
+import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+import pl.aliaksandrou.loancalculator.dto.ScheduleEvent;
+import pl.aliaksandrou.loancalculator.exception.LoanNotFoundException;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.model.LoanRevision;
+import pl.aliaksandrou.loancalculator.model.LoanRevisionPayment;
+import pl.aliaksandrou.loancalculator.repository.LoanPaymentScheduleRepository;
+import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+import pl.aliaksandrou.loancalculator.repository.LoanRevisionRepository;
+import pl.aliaksandrou.loancalculator.validator.LoanReamortizationValidator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class LoanReamortizationService {
+
+    private static final int RESULT_SCALE = 2;
+
+    private final LoanRepository loanRepository;
+    private final LoanPaymentScheduleRepository loanPaymentScheduleRepository;
+    private final LoanRevisionRepository loanRevisionRepository;
+    private final LoanCalculationService loanCalculationService;
+
+    /**
+     * Applies prepayment, rate change and term change events to a stored loan.
+     * Payments before the earliest event are reused as they are: only the payment preceding
+     * the event is read to get the opening balance, and only the recomputed tail is stored
+     * as a {@link LoanRevision}.
+     * <p>
+     * Requests build on each other: the events are applied on top of the latest revision of the
+     * loan, so they must start after that revision's first month. Earlier revisions are never
+     * rewritten.
+     *
+     * @param loanId  Identifier of the stored loan
+     * @param request Events to apply
+     * @return Recomputed payments from the earliest event onwards
+     */
+    @Transactional
+    public LoanReamortizationResponse reamortize(UUID loanId, LoanReamortizationRequest request) {
+        log.info("Re-amortizing loan {} for request: {}", loanId, request);
+        LoanReamortizationValidator.validateRequest(request);
+
+        Loan loan = loanRepository.findByIdForUpdate(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        List<ScheduleEvent> events = request.getEvents().stream()
+                .sorted(Comparator.comparingInt(ScheduleEvent::getMonth))
+                .toList();
+        int startMonth = events.get(0).getMonth();
+        LoanRevision latest = loanRevisionRepository.findFirstByLoanIdOrderByStartMonthDesc(loanId).orElse(null);
+        if (latest != null && startMonth <= latest.getStartMonth()) {
+            throw new IllegalArgumentException("Event month " + startMonth
+                    + " is not after month " + latest.getStartMonth() + " of the latest revision");
+        }
+        int lastPayment = latest != null ? latest.getTerm() : loan.getTerm();
+        if (startMonth > lastPayment) {
+            throw new IllegalArgumentException("Event month " + startMonth + " is after the last payment");
+        }
+
+        LoanRevision revision = LoanRevision.builder()
+                .loan(loan)
+                .startMonth(startMonth)
+                .build();
+        BigDecimal balance = openingBalance(loan, latest, startMonth);
+        List<LoanRevisionPayment> payments = generateTail(revision, events, balance, loan, latest);
+        revision.setPayments(payments);
+        LoanRevision savedRevision = loanRevisionRepository.save(revision);
+
+        return LoanReamortizationResponse.builder()
+                .loanId(loanId)
+                .revisionId(savedRevision.getId())
+                .effectiveFromMonth(startMonth)
+                .interestRate(savedRevision.getInterestRate())
+                .term(savedRevision.getTerm())
+                .monthlyPayment(savedRevision.getMonthlyPayment())
+                .payments(generatePaymentScheduleResponse(payments))
+                .build();
+    }
+
+    private BigDecimal openingBalance(Loan loan, LoanRevision latest, int startMonth) {
+        if (startMonth == 1) {
+            return loan.getLoanAmount();
+        }
+        int previousMonth = startMonth - 1;
+        if (latest != null) {
+            return loanRevisionRepository.findPayment(latest.getId(), previousMonth)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Payment " + previousMonth + " is missing for revision " + latest.getId()))
+                    .getRemainingBalance();
+        }
+        return loanPaymentScheduleRepository.findByLoanIdAndPaymentNumber(loan.getId(), previousMonth)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Payment " + previousMonth + " is missing for loan " + loan.getId()))
+                .getRemainingBalance();
+    }
+
+    private List<LoanRevisionPayment> generateTail(LoanRevision revision, List<ScheduleEvent> events,
+                                                   BigDecimal openingBalance, Loan loan, LoanRevision latest) {
+        int startMonth = revision.getStartMonth();
+        BigDecimal balance = openingBalance;
+        BigDecimal interestRate = latest != null ? latest.getInterestRate() : loan.getInterestRate();
+        BigDecimal monthlyRate = loanCalculationService.calculateMonthlyRate(interestRate);
+        BigDecimal monthlyPayment = latest != null ? latest.getMonthlyPayment() : loan.getMonthlyPayment();
+        int term = latest != null ? latest.getTerm() : loan.getTerm();
+        int eventIndex = 0;
+
+        List<LoanRevisionPayment> payments = new ArrayList<>(term - startMonth + 1);
+        for (int month = startMonth; month <= term && balance.signum() > 0; month++) {
+            boolean rescheduled = false;
+            BigDecimal extraPrincipal = BigDecimal.ZERO;
+            while (eventIndex < events.size() && events.get(eventIndex).getMonth() == month) {
+                ScheduleEvent event = events.get(eventIndex++);
+                switch (event.getType()) {
+                    case PREPAYMENT -> extraPrincipal = extraPrincipal.add(event.getAmount());
+                    case RATE_CHANGE -> {
+                        interestRate = event.getInterestRate();
+                        monthlyRate = loanCalculationService.calculateMonthlyRate(interestRate);
+                        rescheduled = true;
+                    }
+                    case TERM_CHANGE -> {
+                        term = event.getTerm();
+                        rescheduled = true;
+                    }
+                }
+            }
+            if (rescheduled) {
+                monthlyPayment = annuityPayment(balance, interestRate, term - month + 1);
+            }
+
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(RESULT_SCALE, RoundingMode.HALF_UP);
+            BigDecimal principal = monthlyPayment.subtract(interest).add(extraPrincipal);
+            boolean paidOff = month == term || principal.compareTo(balance) >= 0;
+            if (paidOff) {
+                principal = balance;
+            }
+            BigDecimal newBalance = paidOff
+                    ? BigDecimal.ZERO
+                    : balance.subtract(principal).setScale(RESULT_SCALE, RoundingMode.HALF_UP);
+
+            payments.add(LoanRevisionPayment.builder()
+                    .revision(revision)
+                    .paymentNumber(month)
+                    // Counted from the loan start like the original schedule, an end-of-month day
+                    // clamped in one payment is not carried over to the next
+                    .paymentDate(loan.getCreatedAt().plusMonths(month))
+                    .interest(interest)
+                    .principal(principal)
+                    .remainingBalance(newBalance)
+                    .totalPayment(paidOff ? principal.add(interest) : monthlyPayment.add(extraPrincipal))
+                    .build());
+
+            balance = newBalance;
+            if (extraPrincipal.signum() > 0 && !paidOff) {
+                monthlyPayment = annuityPayment(balance, interestRate, term - month);
+            }
+        }
+
+        if (eventIndex < events.size()) {
+            throw new IllegalArgumentException(
+                    "Event month " + events.get(eventIndex).getMonth() + " is after the last payment");
+        }
+
+        revision.setInterestRate(interestRate);
+        // A prepayment can pay the loan off before the scheduled term
+        revision.setTerm(payments.isEmpty() ? term : payments.get(payments.size() - 1).getPaymentNumber());
+        revision.setMonthlyPayment(monthlyPayment);
+        return payments;
+    }
+
+    private BigDecimal annuityPayment(BigDecimal balance, BigDecimal interestRate, int remainingMonths) {
+        return loanCalculationService.calculateMonthlyPayment(LoanCalculationRequest.builder()
+                .loanAmount(balance)
+                .interestRate(interestRate)
+                .term(remainingMonths)
+                .build());
+    }
+
+    private List<PaymentScheduleItem> generatePaymentScheduleResponse(List<LoanRevisionPayment> payments) {
+        return payments.stream()
+                .map(payment -> PaymentScheduleItem.builder()
+                        .number(payment.getPaymentNumber())
+                        .date(payment.getPaymentDate().toString())
+                        .totalPayment(payment.getTotalPayment())
+                        .interest(payment.getInterest())
+                        .principal(payment.getPrincipal())
+                        .remainingBalance(payment.getRemainingBalance())
+                        .build())
+                .toList();
+    }
+}
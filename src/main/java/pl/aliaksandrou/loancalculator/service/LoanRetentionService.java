@@ -0,0 +1,85 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.aliaksandrou.loancalculator.configuration.LoanRetentionProperties;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.repository.LoanPaymentScheduleRepository;
+import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+import pl.aliaksandrou.loancalculator.repository.LoanRevisionRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(name = "loan.retention.enabled", havingValue = "true")
+public class LoanRetentionService {
+
+    private final LoanRepository loanRepository;
+    private final LoanPaymentScheduleRepository loanPaymentScheduleRepository;
+    private final LoanRevisionRepository loanRevisionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final LoanRetentionProperties loanRetentionProperties;
+
+    /**
+     * Deletes loans that were neither created nor looked up within the retention period,
+     * together with their schedules and revisions.
+     * Every batch runs in its own short transaction and skips rows locked by requests in flight.
+     *
+     * @return Number of deleted loans
+     */
+    @Scheduled(cron = "${loan.retention.purge-cron:0 30 3 * * *}")
+    public long purgeExpiredLoans() {
+        LocalDate cutoff = LocalDate.now().minusDays(loanRetentionProperties.ttl().toDays());
+        long purged = 0;
+        int batchPurged;
+        do {
+            List<Loan> deleted = transactionTemplate.execute(status -> purgeBatch(cutoff));
+            batchPurged = deleted != null ? deleted.size() : 0;
+            if (batchPurged > 0) {
+                evictCachedSchedules(deleted);
+            }
+            purged += batchPurged;
+        } while (batchPurged == loanRetentionProperties.batchSize());
+
+        log.info("Purged {} loans not accessed since {}", purged, cutoff);
+        return purged;
+    }
+
+    private List<Loan> purgeBatch(LocalDate cutoff) {
+        List<Loan> loans = loanRepository.findExpiredLoans(cutoff,
+                PageRequest.of(0, loanRetentionProperties.batchSize()));
+        if (loans.isEmpty()) {
+            return loans;
+        }
+        List<UUID> loanIds = loans.stream().map(Loan::getId).toList();
+        loanRevisionRepository.deletePaymentsByLoanIds(loanIds);
+        loanRevisionRepository.deleteByLoanIds(loanIds);
+        loanPaymentScheduleRepository.deleteByLoanIds(loanIds);
+        loanRepository.deleteAllByIdInBatch(loanIds);
+        return loans;
+    }
+
+    /**
+     * Cached responses reference the deleted loans by id. Only their entries are evicted, after
+     * the deletion is committed, so other cached schedules stay warm.
+     */
+    private void evictCachedSchedules(List<Loan> loans) {
+        Cache cache = cacheManager.getCache(LoanCalculationService.LOAN_SCHEDULE_CACHE);
+        if (cache != null) {
+            loans.forEach(loan -> cache.evict(
+                    LoanCalculationService.cacheKey(loan.getLoanAmount(), loan.getInterestRate(), loan.getTerm())));
+        }
+    }
+}
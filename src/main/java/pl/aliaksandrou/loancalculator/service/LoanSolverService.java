@@ -0,0 +1,209 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveResponse;
+import pl.aliaksandrou.loancalculator.dto.SolveTarget;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.validator.LoanSolveValidator;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class LoanSolverService {
+
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.005");
+    private static final int RESULT_SCALE = 2;
+    private static final int MAX_NEWTON_ITERATIONS = 100;
+    private static final double NEWTON_TOLERANCE = 1e-10;
+
+    private final LoanCalculationService loanCalculationService;
+
+    /**
+     * Solves the omitted loan parameter for a target monthly payment: the maximum loan amount,
+     * the minimum term or the maximum interest rate with two decimals whose monthly payment does
+     * not exceed the target. The estimate comes from the closed form or from Newton iteration and
+     * is then checked with {@link LoanCalculationService#calculateMonthlyPayment}, so the result
+     * follows its rounding exactly. Nothing is stored.
+     *
+     * @param request Target monthly payment and two of loan amount, interest rate and term
+     * @return Solved parameters and the resulting monthly payment
+     */
+    public LoanSolveResponse solve(LoanSolveRequest request) {
+        log.debug("Solving loan parameters for request: {}", request);
+        LoanSolveValidator.validateRequest(request);
+        BigDecimal target = request.getTargetMonthlyPayment();
+
+        SolveTarget solvedFor;
+        BigDecimal loanAmount = request.getLoanAmount();
+        BigDecimal interestRate = request.getInterestRate();
+        int term;
+        if (loanAmount == null) {
+            solvedFor = SolveTarget.LOAN_AMOUNT;
+            term = request.getTerm();
+            loanAmount = solveLoanAmount(interestRate, term, target);
+        } else if (interestRate == null) {
+            solvedFor = SolveTarget.INTEREST_RATE;
+            term = request.getTerm();
+            interestRate = solveInterestRate(loanAmount, term, target);
+        } else {
+            solvedFor = SolveTarget.TERM;
+            term = solveTerm(loanAmount, interestRate, target);
+        }
+
+        return LoanSolveResponse.builder()
+                .solvedFor(solvedFor)
+                .loanAmount(loanAmount)
+                .interestRate(interestRate)
+                .term(term)
+                .monthlyPayment(monthlyPayment(loanAmount, interestRate, term))
+                .build();
+    }
+
+    /**
+     * The payment is the loan amount times a factor that depends only on rate and term, rounded
+     * half up to cents, so every amount below {@code (target + 0.005) / factor} is affordable.
+     */
+    private BigDecimal solveLoanAmount(BigDecimal interestRate, int term, BigDecimal target) {
+        BigDecimal limit = target.add(HALF_CENT);
+        BigDecimal estimate;
+        if (interestRate.compareTo(BigDecimal.ZERO) == 0) {
+            estimate = limit.multiply(BigDecimal.valueOf(term));
+        } else {
+            BigDecimal monthlyRate = loanCalculationService.calculateMonthlyRate(interestRate);
+            BigDecimal power = BigDecimal.ONE.add(monthlyRate).pow(term, MathContext.DECIMAL128);
+            BigDecimal factor = monthlyRate.multiply(power)
+                    .divide(power.subtract(BigDecimal.ONE), MathContext.DECIMAL128);
+            estimate = limit.divide(factor, MathContext.DECIMAL128);
+        }
+
+        BigDecimal loanAmount = estimate.setScale(RESULT_SCALE, RoundingMode.FLOOR);
+        while (loanAmount.signum() > 0 && exceeds(loanAmount, interestRate, term, target)) {
+            loanAmount = loanAmount.subtract(CENT);
+        }
+        while (!exceeds(loanAmount.add(CENT), interestRate, term, target)) {
+            loanAmount = loanAmount.add(CENT);
+        }
+        if (loanAmount.signum() <= 0) {
+            throw new IllegalArgumentException("Target monthly payment is too low for any loan amount");
+        }
+        return loanAmount;
+    }
+
+    /**
+     * Closed form {@code n = -ln(1 - P * r / M) / ln(1 + r)}, the payment decreases with the term.
+     */
+    private int solveTerm(BigDecimal loanAmount, BigDecimal interestRate, BigDecimal target) {
+        double estimate;
+        if (interestRate.compareTo(BigDecimal.ZERO) == 0) {
+            estimate = loanAmount.doubleValue() / target.doubleValue();
+        } else {
+            double monthlyRate = loanCalculationService.calculateMonthlyRate(interestRate).doubleValue();
+            double remaining = 1 - loanAmount.doubleValue() * monthlyRate / target.doubleValue();
+            if (remaining <= 0) {
+                throw new IllegalArgumentException("Target monthly payment does not cover the monthly interest");
+            }
+            estimate = -Math.log(remaining) / Math.log1p(monthlyRate);
+        }
+
+        int term = (int) Math.max(1, Math.min(LoanSolveValidator.MAX_TERM, Math.ceil(estimate)));
+        while (term > 1 && !exceeds(loanAmount, interestRate, term - 1, target)) {
+            term--;
+        }
+        while (exceeds(loanAmount, interestRate, term, target)) {
+            if (term == LoanSolveValidator.MAX_TERM) {
+                throw new IllegalArgumentException(
+                        "Target monthly payment is too low to repay the loan within " + LoanSolveValidator.MAX_TERM + " months");
+            }
+            term++;
+        }
+        return term;
+    }
+
+    /**
+     * No closed form exists for the rate, so the monthly rate is found by Newton iteration on the
+     * annuity formula, falling back to bisection whenever a step leaves the bracket.
+     */
+    private BigDecimal solveInterestRate(BigDecimal loanAmount, int term, BigDecimal target) {
+        if (exceeds(loanAmount, BigDecimal.ZERO, term, target)) {
+            throw new IllegalArgumentException("Target monthly payment is too low to repay the loan amount within the term");
+        }
+        if (!exceeds(loanAmount, Loan.MAX_INTEREST_RATE, term, target)) {
+            return Loan.MAX_INTEREST_RATE;
+        }
+
+        double monthlyRate = solveMonthlyRate(loanAmount.doubleValue(), term, target.doubleValue());
+        BigDecimal interestRate = BigDecimal.valueOf(monthlyRate * 1200)
+                .setScale(RESULT_SCALE, RoundingMode.FLOOR)
+                .max(BigDecimal.ZERO)
+                .min(Loan.MAX_INTEREST_RATE);
+        while (interestRate.signum() > 0 && exceeds(loanAmount, interestRate, term, target)) {
+            interestRate = interestRate.subtract(CENT);
+        }
+        while (!exceeds(loanAmount, interestRate.add(CENT), term, target)) {
+            interestRate = interestRate.add(CENT);
+        }
+        return interestRate;
+    }
+
+    private static double solveMonthlyRate(double loanAmount, int term, double target) {
+        double low = 0;
+        double high = Loan.MAX_INTEREST_RATE.doubleValue() / 1200;
+        // Second order expansion of the annuity factor around a zero rate
+        double rate = 2 * (target * term / loanAmount - 1) / (term + 1);
+        if (!(rate > low && rate < high)) {
+            rate = (low + high) / 2;
+        }
+        for (int i = 0; i < MAX_NEWTON_ITERATIONS && high - low > NEWTON_TOLERANCE * high; i++) {
+            double difference = annuity(loanAmount, rate, term) - target;
+            if (Math.abs(difference) < NEWTON_TOLERANCE * target) {
+                break;
+            }
+            if (difference > 0) {
+                high = rate;
+            } else {
+                low = rate;
+            }
+            double next = rate - difference / annuityDerivative(loanAmount, rate, term);
+            rate = next > low && next < high ? next : (low + high) / 2;
+        }
+        return rate;
+    }
+
+    private static double annuity(double loanAmount, double monthlyRate, int term) {
+        if (monthlyRate < 1e-12) {
+            return loanAmount / term;
+        }
+        return loanAmount * monthlyRate / -Math.expm1(-term * Math.log1p(monthlyRate));
+    }
+
+    private static double annuityDerivative(double loanAmount, double monthlyRate, int term) {
+        if (monthlyRate < 1e-12) {
+            return loanAmount * (term + 1) / (2.0 * term);
+        }
+        double discount = Math.exp(-term * Math.log1p(monthlyRate));
+        double denominator = 1 - discount;
+        return loanAmount * (denominator - monthlyRate * term * discount / (1 + monthlyRate))
+                / (denominator * denominator);
+    }
+
+    private boolean exceeds(BigDecimal loanAmount, BigDecimal interestRate, int term, BigDecimal target) {
+        return monthlyPayment(loanAmount, interestRate, term).compareTo(target) > 0;
+    }
+
+    private BigDecimal monthlyPayment(BigDecimal loanAmount, BigDecimal interestRate, int term) {
+        return loanCalculationService.calculateMonthlyPayment(LoanCalculationRequest.builder()
+                .loanAmount(loanAmount)
+                .interestRate(interestRate)
+                .term(term)
+                .build());
+    }
+}
@@ -0,0 +1,60 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import pl.aliaksandrou.loancalculator.dto.CompactPaymentSchedule;
+import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Consumer of payment schedule rows produced by
+ * {@link LoanCalculationService#generatePaymentSchedule(BigDecimal, BigDecimal, int, BigDecimal, LocalDate, PaymentScheduleSink)}.
+ * Rows are passed as plain values, so every sink allocates only what it keeps: entities to persist,
+ * response items, written output or running totals.
+ */
+@FunctionalInterface
+public interface PaymentScheduleSink {
+
+    PaymentScheduleSink DISCARD = (number, date, totalPayment, interest, principal, remainingBalance) -> {
+    };
+
+    void accept(int number, LocalDate date, BigDecimal totalPayment, BigDecimal interest,
+                BigDecimal principal, BigDecimal remainingBalance);
+
+    /**
+     * Feeds every row to this sink and then to the other one, so a single generation pass
+     * serves both.
+     */
+    default PaymentScheduleSink andThen(PaymentScheduleSink other) {
+        return (number, date, totalPayment, interest, principal, remainingBalance) -> {
+            accept(number, date, totalPayment, interest, principal, remainingBalance);
+            other.accept(number, date, totalPayment, interest, principal, remainingBalance);
+        };
+    }
+
+    /**
+     * @param items List the response items are appended to
+     * @return Sink building the payment schedule items of the API response
+     */
+    static PaymentScheduleSink toItems(List<PaymentScheduleItem> items) {
+        return (number, date, totalPayment, interest, principal, remainingBalance) -> items.add(
+                PaymentScheduleItem.builder()
+                        .number(number)
+                        .date(date.toString())
+                        .totalPayment(totalPayment)
+                        .interest(interest)
+                        .principal(principal)
+                        .remainingBalance(remainingBalance)
+                        .build());
+    }
+
+    /**
+     * @param builder Builder the payments are appended to, see {@link CompactPaymentSchedule#supports}
+     * @return Sink building the compact payment schedule of the API response
+     */
+    static PaymentScheduleSink toCompact(CompactPaymentSchedule.Builder builder) {
+        return (number, date, totalPayment, interest, principal, remainingBalance) ->
+                builder.add(date, totalPayment, interest, principal, remainingBalance);
+    }
+}
@@ -0,0 +1,232 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import pl.aliaksandrou.loancalculator.configuration.PortfolioCashFlowProperties;
+import pl.aliaksandrou.loancalculator.dto.CashFlowMonth;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowRequest;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowResponse;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+import pl.aliaksandrou.loancalculator.repository.LoanTerms;
+import pl.aliaksandrou.loancalculator.validator.PortfolioCashFlowValidator;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(name = "loan.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class PortfolioCashFlowService {
+
+    private static final int DEFAULT_MONTHS = 360;
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final LoanRepository loanRepository;
+    private final LoanCalculationService loanCalculationService;
+    private final ExecutorService portfolioCashFlowExecutor;
+    private final PortfolioCashFlowProperties portfolioCashFlowProperties;
+
+    /**
+     * Aggregates the projected monthly interest and principal of stored loans into one bucket per month.
+     * Loans are read in chunks of scalar terms, never with their stored payments, and every chunk
+     * regenerates its schedules on the portfolio executor into its own buckets, which are then merged.
+     * Reading pauses while the configured number of chunks is in flight, so memory use depends on
+     * the chunk settings and the number of months and not on the size of the portfolio.
+     *
+     * @param request Loan identifiers and/or filters and the projection window
+     * @return Inflows per month
+     */
+    public PortfolioCashFlowResponse aggregate(PortfolioCashFlowRequest request) {
+        log.debug("Aggregating portfolio cash flows for request: {}", request);
+        PortfolioCashFlowValidator.validateRequest(request, portfolioCashFlowProperties.maxLoanIds());
+        long start = System.nanoTime();
+        YearMonth from = request.getFrom() != null ? request.getFrom() : YearMonth.now();
+        int months = request.getMonths() != null ? request.getMonths() : DEFAULT_MONTHS;
+        LoanFilter filter = LoanFilter.of(request);
+        int chunkSize = portfolioCashFlowProperties.chunkSize();
+
+        Deque<Future<CashFlowBuckets>> inFlight = new ArrayDeque<>();
+        CashFlowBuckets total = new CashFlowBuckets(months);
+        try {
+            if (request.getLoanIds() != null) {
+                List<UUID> loanIds = new ArrayList<>(new LinkedHashSet<>(request.getLoanIds()));
+                for (int i = 0; i < loanIds.size(); i += chunkSize) {
+                    List<LoanTerms> chunk = loanRepository.findLoanTermsByIds(
+                            loanIds.subList(i, Math.min(i + chunkSize, loanIds.size())),
+                            filter.minLoanAmount(), filter.maxLoanAmount(), filter.minInterestRate(),
+                            filter.maxInterestRate(), filter.minTerm(), filter.maxTerm());
+                    submit(chunk, from, months, inFlight, total);
+                }
+            } else {
+                UUID afterId = MIN_ID;
+                List<LoanTerms> chunk;
+                do {
+                    chunk = loanRepository.findLoanTermsAfter(afterId,
+                            filter.minLoanAmount(), filter.maxLoanAmount(), filter.minInterestRate(),
+                            filter.maxInterestRate(), filter.minTerm(), filter.maxTerm(),
+                            PageRequest.of(0, chunkSize));
+                    if (!chunk.isEmpty()) {
+                        afterId = chunk.get(chunk.size() - 1).id();
+                        submit(chunk, from, months, inFlight, total);
+                    }
+                } while (chunk.size() == chunkSize);
+            }
+            while (!inFlight.isEmpty()) {
+                total.merge(await(inFlight.poll()));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Aggregated cash flows of {} loans over {} months in {} ms", total.loanCount, months, elapsedMillis);
+        return total.toResponse(from, elapsedMillis);
+    }
+
+    private void submit(List<LoanTerms> chunk, YearMonth from, int months,
+                        Deque<Future<CashFlowBuckets>> inFlight, CashFlowBuckets total) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        inFlight.add(portfolioCashFlowExecutor.submit(() -> aggregateChunk(chunk, from, months)));
+        while (inFlight.size() >= portfolioCashFlowProperties.maxInFlightChunks()) {
+            total.merge(await(inFlight.poll()));
+        }
+    }
+
+    private static CashFlowBuckets await(Future<CashFlowBuckets> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Portfolio aggregation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Portfolio aggregation failed", e.getCause());
+        }
+    }
+
+    private CashFlowBuckets aggregateChunk(List<LoanTerms> loans, YearMonth from, int months) {
+        CashFlowBuckets buckets = new CashFlowBuckets(months);
+        for (LoanTerms loan : loans) {
+            addSchedule(buckets, loan, from);
+        }
+        return buckets;
+    }
+
+    /**
+     * Regenerates the schedule with the same recurrence and dates as the stored one. Payment n falls
+     * into the month n months after the loan was created.
+     */
+    private void addSchedule(CashFlowBuckets buckets, LoanTerms loan, YearMonth from) {
+        buckets.loanCount++;
+        int offset = (int) from.until(YearMonth.from(loan.createdAt()), ChronoUnit.MONTHS);
+        int term = loan.term();
+        if (offset + 1 >= buckets.months || offset + term < 0) {
+            return;
+        }
+        BigDecimal monthlyRate = loanCalculationService.calculateMonthlyRate(loan.interestRate());
+        if (!CentsAmortization.supports(loan.loanAmount(), monthlyRate)) {
+            loanCalculationService.generatePaymentSchedule(loan.loanAmount(), loan.interestRate(), term,
+                    loan.monthlyPayment(), loan.createdAt(),
+                    (number, date, totalPayment, interest, principal, remainingBalance) -> buckets.add(
+                            offset + number, CentsAmortization.toCents(interest), CentsAmortization.toCents(principal)));
+            return;
+        }
+
+        long balance = CentsAmortization.toCents(loan.loanAmount());
+        long rate = CentsAmortization.toRate(monthlyRate);
+        long monthlyPayment = CentsAmortization.toCents(loan.monthlyPayment());
+        int lastMonth = Math.min(term, buckets.months - 1 - offset);
+        for (int month = 1; month <= lastMonth; month++) {
+            long interest = CentsAmortization.interest(balance, rate);
+            long principal = month == term ? balance : monthlyPayment - interest;
+            balance -= principal;
+            buckets.add(offset + month, interest, principal);
+        }
+    }
+
+    private record LoanFilter(BigDecimal minLoanAmount, BigDecimal maxLoanAmount, BigDecimal minInterestRate,
+                              BigDecimal maxInterestRate, int minTerm, int maxTerm) {
+
+        static LoanFilter of(PortfolioCashFlowRequest request) {
+            return new LoanFilter(
+                    request.getMinLoanAmount() != null ? request.getMinLoanAmount() : BigDecimal.ZERO,
+                    request.getMaxLoanAmount() != null ? request.getMaxLoanAmount() : Loan.MAX_LOAN_AMOUNT,
+                    request.getMinInterestRate() != null ? request.getMinInterestRate() : BigDecimal.ZERO,
+                    request.getMaxInterestRate() != null ? request.getMaxInterestRate() : Loan.MAX_INTEREST_RATE,
+                    request.getMinTerm() != null ? request.getMinTerm() : 0,
+                    request.getMaxTerm() != null ? request.getMaxTerm() : Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Cent sums per month of the projection, owned by a single thread until merged.
+     */
+    private static final class CashFlowBuckets {
+        private final int months;
+        private final long[] interest;
+        private final long[] principal;
+        private long loanCount;
+
+        CashFlowBuckets(int months) {
+            this.months = months;
+            this.interest = new long[months];
+            this.principal = new long[months];
+        }
+
+        void add(int index, long interestCents, long principalCents) {
+            if (index >= 0 && index < months) {
+                interest[index] += interestCents;
+                principal[index] += principalCents;
+            }
+        }
+
+        void merge(CashFlowBuckets other) {
+            for (int i = 0; i < months; i++) {
+                interest[i] += other.interest[i];
+                principal[i] += other.principal[i];
+            }
+            loanCount += other.loanCount;
+        }
+
+        PortfolioCashFlowResponse toResponse(YearMonth from, long elapsedMillis) {
+            List<CashFlowMonth> cashFlows = new ArrayList<>(months);
+            long totalInterest = 0;
+            long totalPrincipal = 0;
+            for (int i = 0; i < months; i++) {
+                totalInterest += interest[i];
+                totalPrincipal += principal[i];
+                cashFlows.add(CashFlowMonth.builder()
+                        .month(from.plusMonths(i))
+                        .interest(CentsAmortization.fromCents(interest[i]))
+                        .principal(CentsAmortization.fromCents(principal[i]))
+                        .totalPayment(CentsAmortization.fromCents(interest[i] + principal[i]))
+                        .build());
+            }
+            return PortfolioCashFlowResponse.builder()
+                    .from(from)
+                    .months(months)
+                    .loanCount(loanCount)
+                    .totalInterest(CentsAmortization.fromCents(totalInterest))
+                    .totalPrincipal(CentsAmortization.fromCents(totalPrincipal))
+                    .elapsedMillis(elapsedMillis)
+                    .cashFlows(cashFlows)
+                    .build();
+        }
+    }
+}
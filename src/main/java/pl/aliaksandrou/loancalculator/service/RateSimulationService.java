@@ -0,0 +1,184 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationRequest;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationResponse;
+import pl.aliaksandrou.loancalculator.dto.SimulationPoint;
+import pl.aliaksandrou.loancalculator.validator.RateSimulationValidator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class RateSimulationService {
+
+    private static final int DEFAULT_RESET_PERIOD = 12;
+    private static final int DEFAULT_PATHS = 10_000;
+    private static final List<BigDecimal> DEFAULT_PERCENTILES = List.of(
+            BigDecimal.valueOf(5), BigDecimal.valueOf(25), BigDecimal.valueOf(50),
+            BigDecimal.valueOf(75), BigDecimal.valueOf(95));
+    private static final int PATHS_PER_CHUNK = 1024;
+    private static final double MONTHS_IN_YEAR = 12.0;
+    private static final double MONTHLY_RATE_DIVISOR = 1200.0;
+
+    /**
+     * Simulates the loan under mean-reverting rate paths and re-amortizes the remaining balance
+     * over the remaining term at every reset.
+     * Paths are split into fixed chunks, each with its own random generator split from the seed
+     * in chunk order, so the result only depends on the seed and not on thread scheduling.
+     *
+     * @param request Loan and rate model parameters
+     * @return Percentile curves of payment and balance at every reset
+     */
+    public RateSimulationResponse simulate(RateSimulationRequest request) {
+        log.info("Simulating variable-rate loan for request: {}", request);
+        RateSimulationValidator.validateRequest(request);
+
+        int term = request.getTerm();
+        int resetPeriod = Objects.requireNonNullElse(request.getResetPeriod(), DEFAULT_RESET_PERIOD);
+        int paths = Objects.requireNonNullElse(request.getPaths(), DEFAULT_PATHS);
+        int resets = (term + resetPeriod - 1) / resetPeriod;
+        RateSimulationValidator.validateGridSize(paths, resets);
+
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        List<BigDecimal> percentiles = Objects.requireNonNullElse(request.getPercentiles(), DEFAULT_PERCENTILES);
+        RateModel model = RateModel.of(request, resetPeriod);
+        long amountCents = request.getLoanAmount().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+
+        long start = System.nanoTime();
+        long[][] payments = new long[resets][paths];
+        long[][] balances = new long[resets][paths];
+        long[] totalInterest = new long[paths];
+
+        int chunks = (paths + PATHS_PER_CHUNK - 1) / PATHS_PER_CHUNK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkRandoms[chunk] = root.split();
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom random = chunkRandoms[chunk];
+            int to = Math.min((chunk + 1) * PATHS_PER_CHUNK, paths);
+            for (int path = chunk * PATHS_PER_CHUNK; path < to; path++) {
+                totalInterest[path] = simulatePath(path, amountCents, term, model, random, payments, balances);
+            }
+        });
+
+        IntStream.range(0, resets).parallel().forEach(reset -> {
+            Arrays.sort(payments[reset]);
+            Arrays.sort(balances[reset]);
+        });
+        Arrays.parallelSort(totalInterest);
+
+        List<SimulationPoint> points = new ArrayList<>(resets);
+        for (int reset = 0; reset < resets; reset++) {
+            points.add(SimulationPoint.builder()
+                    .month(reset * resetPeriod + 1)
+                    .payment(percentiles(payments[reset], percentiles))
+                    .balance(percentiles(balances[reset], percentiles))
+                    .build());
+        }
+        log.debug("Simulated {} paths with {} resets in {} ms", paths, resets, (System.nanoTime() - start) / 1_000_000);
+
+        return RateSimulationResponse.builder()
+                .loanAmount(request.getLoanAmount())
+                .term(term)
+                .paths(paths)
+                .seed(seed)
+                .points(points)
+                .totalInterest(percentiles(totalInterest, percentiles))
+                .build();
+    }
+
+    /**
+     * Runs one path in cents, following the rounding of the generated payment schedule:
+     * interest is rounded every month and the last payment clears the remaining balance.
+     *
+     * @return Total interest paid on the path in cents
+     */
+    private static long simulatePath(int path, long amountCents, int term, RateModel model, SplittableRandom random,
+                                     long[][] payments, long[][] balances) {
+        long balance = amountCents;
+        long payment = 0;
+        long totalInterest = 0;
+        double annualRate = model.initialRate();
+        double monthlyRate = 0;
+
+        for (int month = 1; month <= term; month++) {
+            if ((month - 1) % model.resetPeriod() == 0) {
+                int reset = (month - 1) / model.resetPeriod();
+                if (reset > 0) {
+                    annualRate = model.next(annualRate, random);
+                }
+                monthlyRate = annualRate / MONTHLY_RATE_DIVISOR;
+                payment = annuityPayment(balance, monthlyRate, term - month + 1);
+                payments[reset][path] = payment;
+                balances[reset][path] = balance;
+            }
+            long interest = Math.round(balance * monthlyRate);
+            long principal = (month == term) ? balance : payment - interest;
+            balance -= principal;
+            totalInterest += interest;
+        }
+        return totalInterest;
+    }
+
+    /**
+     * Double-precision counterpart of {@link LoanCalculationService#calculateMonthlyPayment}, in cents.
+     */
+    private static long annuityPayment(long balance, double monthlyRate, int remainingMonths) {
+        if (monthlyRate == 0) {
+            return Math.round((double) balance / remainingMonths);
+        }
+        double power = Math.pow(1 + monthlyRate, remainingMonths);
+        return Math.round(balance * monthlyRate * power / (power - 1));
+    }
+
+    private static Map<String, BigDecimal> percentiles(long[] sortedCents, List<BigDecimal> percentiles) {
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        for (BigDecimal percentile : percentiles) {
+            int rank = (int) Math.ceil(percentile.doubleValue() / 100 * sortedCents.length);
+            int index = Math.min(Math.max(rank - 1, 0), sortedCents.length - 1);
+            result.put("p" + percentile.stripTrailingZeros().toPlainString(), BigDecimal.valueOf(sortedCents[index], 2));
+        }
+        return result;
+    }
+
+    /**
+     * Vasicek (Ornstein-Uhlenbeck) short rate sampled exactly at every reset, floored at zero.
+     * Rates are annual percentages.
+     */
+    private record RateModel(double initialRate, double longTermRate, double decay, double stdDev, int resetPeriod) {
+
+        static RateModel of(RateSimulationRequest request, int resetPeriod) {
+            double initialRate = request.getInitialRate().doubleValue();
+            double longTermRate = request.getLongTermRate() != null ? request.getLongTermRate().doubleValue() : initialRate;
+            double meanReversion = request.getMeanReversion() != null ? request.getMeanReversion().doubleValue() : 0;
+            double volatility = request.getVolatility() != null ? request.getVolatility().doubleValue() : 0;
+            double years = resetPeriod / MONTHS_IN_YEAR;
+
+            double decay = Math.exp(-meanReversion * years);
+            double stdDev = meanReversion > 0
+                    ? volatility * Math.sqrt((1 - Math.exp(-2 * meanReversion * years)) / (2 * meanReversion))
+                    : volatility * Math.sqrt(years);
+            return new RateModel(initialRate, longTermRate, decay, stdDev, resetPeriod);
+        }
+
+        double next(double rate, SplittableRandom random) {
+            double mean = longTermRate + (rate - longTermRate) * decay;
+            return Math.max(mean + stdDev * random.nextGaussian(), 0);
+        }
+    }
+}
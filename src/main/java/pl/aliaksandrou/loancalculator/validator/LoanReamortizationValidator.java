@@ -0,0 +1,53 @@
+package pl.aliaksandrou.loancalculator.validator;
+
+import lombok.experimental.UtilityClass;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationRequest;
+import pl.aliaksandrou.loancalculator.dto.ScheduleEvent;
+import pl.aliaksandrou.loancalculator.model.Loan;
+
+import java.math.BigDecimal;
+
+@UtilityClass
+public class LoanReamortizationValidator {
+
+    private static final int RATE_SCALE = 2;
+
+    public void validateRequest(LoanReamortizationRequest request) {
+        if (request.getEvents() == null || request.getEvents().isEmpty()) {
+            throw new IllegalArgumentException("At least one event is required");
+        }
+        request.getEvents().forEach(LoanReamortizationValidator::validateEvent);
+    }
+
+    private void validateEvent(ScheduleEvent event) {
+        if (event == null || event.getType() == null) {
+            throw new IllegalArgumentException("Event type is required");
+        }
+        if (event.getMonth() <= 0) {
+            throw new IllegalArgumentException("Event month must be greater than zero");
+        }
+        switch (event.getType()) {
+            case PREPAYMENT -> {
+                if (event.getAmount() == null || event.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                    throw new IllegalArgumentException("Prepayment amount must be greater than zero");
+                }
+            }
+            case RATE_CHANGE -> {
+                if (event.getInterestRate() == null || event.getInterestRate().compareTo(BigDecimal.ZERO) < 0) {
+                    throw new IllegalArgumentException("Interest rate must be greater than or equal to zero");
+                }
+                // The revision stores the rate with two decimals, its payments must follow from the stored rate
+                if (event.getInterestRate().stripTrailingZeros().scale() > RATE_SCALE
+                        || event.getInterestRate().compareTo(Loan.MAX_INTEREST_RATE) > 0) {
+                    throw new IllegalArgumentException("Interest rate must have at most " + RATE_SCALE
+                            + " decimals and not exceed " + Loan.MAX_INTEREST_RATE);
+                }
+            }
+            case TERM_CHANGE -> {
+                if (event.getTerm() == null || event.getTerm() < event.getMonth()) {
+                    throw new IllegalArgumentException("New term must not end before the event month");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package pl.aliaksandrou.loancalculator.validator;
+
+import lombok.experimental.UtilityClass;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveRequest;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+@UtilityClass
+public class LoanSolveValidator {
+
+    public static final int MAX_TERM = 1200;
+
+    public void validateRequest(LoanSolveRequest request) {
+        if (request.getTargetMonthlyPayment() == null
+                || request.getTargetMonthlyPayment().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Target monthly payment must be greater than zero");
+        }
+        long omitted = Stream.of(request.getLoanAmount(), request.getInterestRate(), request.getTerm())
+                .filter(value -> value == null)
+                .count();
+        if (omitted != 1) {
+            throw new IllegalArgumentException("Exactly one of loan amount, interest rate and term must be omitted");
+        }
+        if (request.getLoanAmount() != null && request.getLoanAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Loan amount must be greater than zero");
+        }
+        if (request.getInterestRate() != null && request.getInterestRate().compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Interest rate must be greater than or equal to zero");
+        }
+        if (request.getTerm() != null && (request.getTerm() <= 0 || request.getTerm() > MAX_TERM)) {
+            throw new IllegalArgumentException("Term must be between 1 and " + MAX_TERM);
+        }
+    }
+}
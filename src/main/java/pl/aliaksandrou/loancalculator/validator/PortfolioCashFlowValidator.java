@@ -0,0 +1,45 @@
+package pl.aliaksandrou.loancalculator.validator;
+
+import lombok.experimental.UtilityClass;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowRequest;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@UtilityClass
+public class PortfolioCashFlowValidator {
+
+    public static final int MAX_MONTHS = 1200;
+
+    public void validateRequest(PortfolioCashFlowRequest request, int maxLoanIds) {
+        if (request.getLoanIds() != null && request.getLoanIds().size() > maxLoanIds) {
+            throw new IllegalArgumentException("At most " + maxLoanIds + " loan identifiers are allowed");
+        }
+        if (request.getLoanIds() != null && request.getLoanIds().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Loan identifiers must not be null");
+        }
+        if (isNegative(request.getMinLoanAmount()) || isNegative(request.getMinInterestRate())) {
+            throw new IllegalArgumentException("Minimum loan amount and interest rate must be greater than or equal to zero");
+        }
+        if (isGreater(request.getMinLoanAmount(), request.getMaxLoanAmount())) {
+            throw new IllegalArgumentException("Minimum loan amount must not exceed the maximum");
+        }
+        if (isGreater(request.getMinInterestRate(), request.getMaxInterestRate())) {
+            throw new IllegalArgumentException("Minimum interest rate must not exceed the maximum");
+        }
+        if (request.getMinTerm() != null && request.getMaxTerm() != null && request.getMinTerm() > request.getMaxTerm()) {
+            throw new IllegalArgumentException("Minimum term must not exceed the maximum");
+        }
+        if (request.getMonths() != null && (request.getMonths() <= 0 || request.getMonths() > MAX_MONTHS)) {
+            throw new IllegalArgumentException("Months must be between 1 and " + MAX_MONTHS);
+        }
+    }
+
+    private boolean isNegative(BigDecimal value) {
+        return value != null && value.compareTo(BigDecimal.ZERO) < 0;
+    }
+
+    private boolean isGreater(BigDecimal min, BigDecimal max) {
+        return min != null && max != null && min.compareTo(max) > 0;
+    }
+}
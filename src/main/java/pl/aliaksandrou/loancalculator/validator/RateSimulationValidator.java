@@ -0,0 +1,68 @@
+package pl.aliaksandrou.loancalculator.validator;
+
+import lombok.experimental.UtilityClass;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationRequest;
+
+import java.math.BigDecimal;
+
+@UtilityClass
+public class RateSimulationValidator {
+
+    private static final int MAX_PATHS = 200_000;
+    private static final long MAX_SIMULATION_CELLS = 4_000_000L;
+    private static final BigDecimal MAX_PERCENTILE = BigDecimal.valueOf(100);
+    /**
+     * Paths are simulated in double-precision cents, which stay exact below 2^53.
+     */
+    private static final BigDecimal MAX_LOAN_AMOUNT = new BigDecimal("90000000000000");
+
+    public void validateRequest(RateSimulationRequest request) {
+        if (request.getLoanAmount() == null || request.getLoanAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Loan amount must be greater than zero");
+        }
+        if (request.getLoanAmount().compareTo(MAX_LOAN_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Loan amount must not exceed " + MAX_LOAN_AMOUNT);
+        }
+        if (request.getInitialRate() == null || request.getInitialRate().compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Initial rate must be greater than or equal to zero");
+        }
+        if (request.getTerm() <= 0) {
+            throw new IllegalArgumentException("Term must be greater than zero");
+        }
+        if (request.getResetPeriod() != null
+                && (request.getResetPeriod() <= 0 || request.getResetPeriod() > request.getTerm())) {
+            throw new IllegalArgumentException("Reset period must be between 1 and the term");
+        }
+        if (isNegative(request.getLongTermRate())) {
+            throw new IllegalArgumentException("Long-term rate must be greater than or equal to zero");
+        }
+        if (isNegative(request.getMeanReversion())) {
+            throw new IllegalArgumentException("Mean reversion must be greater than or equal to zero");
+        }
+        if (isNegative(request.getVolatility())) {
+            throw new IllegalArgumentException("Volatility must be greater than or equal to zero");
+        }
+        if (request.getPaths() != null && (request.getPaths() <= 0 || request.getPaths() > MAX_PATHS)) {
+            throw new IllegalArgumentException("Paths must be between 1 and " + MAX_PATHS);
+        }
+        if (request.getPercentiles() != null && request.getPercentiles().stream().anyMatch(
+                p -> p == null || p.compareTo(BigDecimal.ZERO) <= 0 || p.compareTo(MAX_PERCENTILE) > 0)) {
+            throw new IllegalArgumentException("Percentiles must be greater than zero and at most 100");
+        }
+    }
+
+    /**
+     * Every path keeps one payment and one balance per reset until percentiles are taken,
+     * so the grid size bounds the memory a single simulation can hold.
+     */
+    public void validateGridSize(int paths, int resets) {
+        if ((long) paths * resets > MAX_SIMULATION_CELLS) {
+            throw new IllegalArgumentException("Paths multiplied by the number of rate resets must not exceed "
+                    + MAX_SIMULATION_CELLS);
+        }
+    }
+
+    private boolean isNegative(BigDecimal value) {
+        return value != null && value.compareTo(BigDecimal.ZERO) < 0;
+    }
+}
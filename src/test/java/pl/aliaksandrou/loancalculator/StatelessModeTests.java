@@ -0,0 +1,133 @@
+package pl.aliaksandrou.loancalculator;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationResponse;
+import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+import pl.aliaksandrou.loancalculator.repository.LoanStore;
+import pl.aliaksandrou.loancalculator.service.LoanCalculationService;
+import pl.aliaksandrou.loancalculator.service.LoanReamortizationService;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the application in the stateless profile and compares its responses with a second,
+ * persistent application context on its own in-memory database.
+ */
+@SpringBootTest
+@ActiveProfiles("stateless")
+class StatelessModeTests {
+
+    private static ConfigurableApplicationContext persistentContext;
+
+    @Autowired
+    private ApplicationContext statelessContext;
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @BeforeAll
+    static void startPersistentContext() {
+        persistentContext = new SpringApplicationBuilder(LoanCalculatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:persistent-mode;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.show_sql=false")
+                .run();
+    }
+
+    @AfterAll
+    static void stopPersistentContext() {
+        persistentContext.close();
+    }
+
+    @Test
+    void statelessMode_StartsWithoutDatabase() {
+        assertTrue(statelessContext.getBeansOfType(DataSource.class).isEmpty());
+        assertTrue(statelessContext.getBeansOfType(LoanReamortizationService.class).isEmpty());
+        assertFalse(statelessContext.getBean(LoanStore.class).isPersistent());
+        assertTrue(persistentContext.getBean(LoanStore.class).isPersistent());
+    }
+
+    @Test
+    void calculateLoanSchedule_MatchesPersistentMode() {
+        LoanCalculationService persistentService = persistentContext.getBean(LoanCalculationService.class);
+        List<LoanCalculationRequest> requests = List.of(
+                request("100000", "5.5", 360),
+                request("120000", "0", 360),
+                request("250000.55", "3.99", 480),
+                request("1", "5", 1));
+
+        TransactionTemplate transactionTemplate = persistentContext.getBean(TransactionTemplate.class);
+
+        for (LoanCalculationRequest request : requests) {
+            LoanCalculationResponse stateless = loanCalculationService.calculateLoanSchedule(request);
+
+            // Created loan, then the same loan read back from the database
+            LoanCalculationResponse created = persistentService.calculateLoanSchedule(request);
+            persistentService.evictLoanScheduleCache(request);
+            LoanCalculationResponse stored = transactionTemplate.execute(
+                    status -> persistentService.calculateLoanSchedule(request));
+
+            assertNull(stateless.getLoanId());
+            assertNotNull(created.getLoanId());
+            assertSameResponse(created, stateless);
+            assertSameResponse(stored, stateless);
+        }
+    }
+
+    @Test
+    void summaryAndSchedule_AgreeInStatelessMode() {
+        LoanCalculationRequest request = request("300000", "4.5", 360);
+
+        LoanCalculationResponse response = loanCalculationService.calculateLoanSchedule(request);
+
+        assertEquals(360, response.getPayments().size());
+        assertEquals(0, loanCalculationService.calculateLoanSummary(request).getFinalPayment()
+                .compareTo(response.getPayments().get(359).getTotalPayment()));
+    }
+
+    /**
+     * Compares everything but the loan identifier. Amounts read back from the database carry
+     * the column scale, so they are compared by value.
+     */
+    private static void assertSameResponse(LoanCalculationResponse expected, LoanCalculationResponse actual) {
+        assertEquals(0, expected.getLoanAmount().compareTo(actual.getLoanAmount()));
+        assertEquals(0, expected.getInterestRate().compareTo(actual.getInterestRate()));
+        assertEquals(expected.getMonthlyPayment(), actual.getMonthlyPayment());
+        assertEquals(expected.getPayments().size(), actual.getPayments().size());
+        for (int i = 0; i < expected.getPayments().size(); i++) {
+            PaymentScheduleItem expectedItem = expected.getPayments().get(i);
+            PaymentScheduleItem actualItem = actual.getPayments().get(i);
+            assertEquals(expectedItem.getNumber(), actualItem.getNumber());
+            assertEquals(expectedItem.getDate(), actualItem.getDate());
+            assertEquals(0, expectedItem.getTotalPayment().compareTo(actualItem.getTotalPayment()));
+            assertEquals(0, expectedItem.getInterest().compareTo(actualItem.getInterest()));
+            assertEquals(0, expectedItem.getPrincipal().compareTo(actualItem.getPrincipal()));
+            assertEquals(0, expectedItem.getRemainingBalance().compareTo(actualItem.getRemainingBalance()));
+        }
+    }
+
+    private static LoanCalculationRequest request(String loanAmount, String interestRate, int term) {
+        return LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal(loanAmount))
+                .interestRate(new BigDecimal(interestRate))
+                .term(term)
+                .build();
+    }
+}
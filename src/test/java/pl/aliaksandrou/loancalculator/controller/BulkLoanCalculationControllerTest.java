@@ -0,0 +1,85 @@
+package pl.aliaksandrou.loancalculator.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "loan.bulk.chunk-size=2",
+        "loan.bulk.max-in-flight-chunks=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BulkLoanCalculationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void calculateBulk_MixedRows_StreamsResultsInInputOrder() throws Exception {
+        String csv = """
+            loanAmount,interestRate,term
+            100000,5.5,360
+            0,5.5,360
+
+            abc,5.5,360
+            120000,0,360
+            """;
+
+        MvcResult result = mockMvc.perform(post("/api/loans/calculate/bulk")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"));
+
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(6, lines.size());
+        assertEquals("line,loanAmount,interestRate,term,monthlyPayment,finalPayment,totalPayment,totalInterest,error",
+                lines.get(0));
+        assertEquals("2,100000,5.5,360,567.79,566.61,204403.22,104403.22,", lines.get(1));
+        assertEquals("3,,,,,,,,\"Loan amount must be greater than zero\"", lines.get(2));
+        assertEquals("5,,,,,,,,\"Invalid number in row: abc,5.5,360\"", lines.get(3));
+        assertEquals("6,120000,0,360,333.33,334.53,120000.00,0.00,", lines.get(4));
+        assertTrue(lines.get(5).startsWith("# rows=4,errors=2,"));
+    }
+
+    @Test
+    void calculateBulk_RowFailingToCalculate_ReportsErrorAndKeepsStreaming() throws Exception {
+        String csv = """
+            1000,5,1000000000
+            100000,5.5,360
+            """;
+
+        MvcResult result = mockMvc.perform(post("/api/loans/calculate/bulk")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofHours(1).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(4, lines.size());
+        assertEquals("1,,,,,,,,\"Loan could not be calculated\"", lines.get(1));
+        assertEquals("2,100000,5.5,360,567.79,566.61,204403.22,104403.22,", lines.get(2));
+        assertTrue(lines.get(3).startsWith("# rows=2,errors=1,"));
+    }
+}
@@ -48,6 +48,27 @@ class LoanCalculatorControllerTest {
                 .andExpect(jsonPath("$.payments[359].remainingBalance").value(0.00));
     }
 
+    @Test
+    void calculateLoanSummary_ValidRequest_ReturnsTotalsWithoutSchedule() throws Exception {
+        String requestJson = """
+            {
+                "loanAmount": 100000,
+                "interestRate": 5.5,
+                "term": 360
+            }
+            """;
+
+        mockMvc.perform(post("/api/loans/calculate/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlyPayment").value(567.79))
+                .andExpect(jsonPath("$.finalPayment").value(566.61))
+                .andExpect(jsonPath("$.totalPayment").value(204403.22))
+                .andExpect(jsonPath("$.totalInterest").value(104403.22))
+                .andExpect(jsonPath("$.payments").doesNotExist());
+    }
+
     @Test
     void calculateLoanSchedule_WithZeroInterest_ReturnsCorrectSchedule() throws Exception {
         String requestJson = """
@@ -0,0 +1,223 @@
+package pl.aliaksandrou.loancalculator.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Open-model load test of the full application against the in-memory H2 database.
+ * Requests are sent at a fixed arrival rate regardless of how fast responses come back, and
+ * latency is measured from the intended send time, so a stalled server shows up in the
+ * percentiles instead of silently lowering the request rate (no coordinated omission).
+ * <p>
+ * Run with {@code mvn test -Pperf}. Tunable with the system properties {@code loadtest.rate}
+ * (requests per second), {@code loadtest.duration} and {@code loadtest.warmup} (seconds) and
+ * {@code loadtest.report} (path of the JSON report).
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.pl.aliaksandrou.loancalculator=warn"
+})
+@ActiveProfiles("test")
+class LoanCalculatorLoadTest {
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final long DURATION_SECONDS = Long.getLong("loadtest.duration", 30);
+    private static final long WARMUP_SECONDS = Long.getLong("loadtest.warmup", 5);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/load-test/report.json"));
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int CACHED_LOANS = 20;
+    private static final long SEED = 42;
+
+    private enum Scenario {
+        CACHE_HIT(55, 200),
+        NEW_LOAN(25, 200),
+        LONG_TERM(10, 200),
+        INVALID_INPUT(10, 400);
+
+        private final int weight;
+        private final int expectedStatus;
+
+        Scenario(int weight, int expectedStatus) {
+            this.weight = weight;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    private static final class ScenarioStats {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final AtomicLong unexpected = new AtomicLong();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final AtomicLong uniqueLoans = new AtomicLong();
+
+    @Test
+    void mixedTrafficAtFixedArrivalRate() throws Exception {
+        for (int i = 0; i < CACHED_LOANS; i++) {
+            HttpResponse<Void> response = httpClient.send(
+                    request(cachedLoanBody(i)), HttpResponse.BodyHandlers.discarding());
+            assertEquals(200, response.statusCode());
+        }
+
+        run(WARMUP_SECONDS, new EnumMap<>(Scenario.class));
+
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        long start = System.nanoTime();
+        run(DURATION_SECONDS, stats);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        writeReport(stats, elapsedSeconds);
+        long unexpected = stats.values().stream().mapToLong(s -> s.unexpected.get()).sum();
+        assertEquals(0, unexpected, "Requests with unexpected status or failure");
+    }
+
+    private void run(long seconds, Map<Scenario, ScenarioStats> stats) {
+        for (Scenario scenario : Scenario.values()) {
+            stats.putIfAbsent(scenario, new ScenarioStats());
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long requests = seconds * RATE;
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            Scenario scenario = pickScenario(random);
+            ScenarioStats scenarioStats = stats.get(scenario);
+            inFlight.add(httpClient.sendAsync(request(body(scenario, random)), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                        scenarioStats.latency.recordValue(Math.min(micros, HIGHEST_LATENCY_MICROS));
+                        if (failure != null || response.statusCode() != scenario.expectedStatus) {
+                            scenarioStats.unexpected.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static Scenario pickScenario(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (Scenario scenario : Scenario.values()) {
+            roll -= scenario.weight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return Scenario.CACHE_HIT;
+    }
+
+    private String body(Scenario scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case CACHE_HIT -> cachedLoanBody(random.nextInt(CACHED_LOANS));
+            case NEW_LOAN -> loanBody(uniqueAmount(), "5.5", 360);
+            case LONG_TERM -> loanBody(uniqueAmount(), "4.0", 480);
+            case INVALID_INPUT -> random.nextBoolean()
+                    ? loanBody(BigDecimal.ZERO, "5.5", 360)
+                    : loanBody(BigDecimal.valueOf(100000), "5.5", 0);
+        };
+    }
+
+    private static String cachedLoanBody(int index) {
+        return loanBody(BigDecimal.valueOf(100000 + index * 1000L), "5.5", 360);
+    }
+
+    private BigDecimal uniqueAmount() {
+        return BigDecimal.valueOf(10_000_000 + uniqueLoans.incrementAndGet(), 2);
+    }
+
+    private static String loanBody(BigDecimal loanAmount, String interestRate, int term) {
+        return "{\"loanAmount\": " + loanAmount.toPlainString()
+                + ", \"interestRate\": " + interestRate
+                + ", \"term\": " + term + "}";
+    }
+
+    private HttpRequest request(String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/loans/calculate"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void writeReport(Map<Scenario, ScenarioStats> stats, double elapsedSeconds) throws Exception {
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+        long totalUnexpected = 0;
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency;
+            total.add(latency);
+            totalUnexpected += entry.getValue().unexpected.get();
+            scenarios.put(entry.getKey().name(), summary(latency, entry.getValue().unexpected.get(), elapsedSeconds));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", RATE);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("warmupSeconds", WARMUP_SECONDS);
+        report.put("scenarios", scenarios);
+        report.put("total", summary(total, totalUnexpected, elapsedSeconds));
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+    }
+
+    private static Map<String, Object> summary(Histogram latency, long unexpected, double elapsedSeconds) {
+        Map<String, Object> latencyMicros = new LinkedHashMap<>();
+        latencyMicros.put("mean", Math.round(latency.getMean()));
+        latencyMicros.put("p50", latency.getValueAtPercentile(50));
+        latencyMicros.put("p90", latency.getValueAtPercentile(90));
+        latencyMicros.put("p99", latency.getValueAtPercentile(99));
+        latencyMicros.put("p99.9", latency.getValueAtPercentile(99.9));
+        latencyMicros.put("max", latency.getMaxValue());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", latency.getTotalCount());
+        summary.put("unexpected", unexpected);
+        summary.put("throughputPerSecond", Math.round(latency.getTotalCount() / elapsedSeconds));
+        summary.put("latencyMicros", latencyMicros);
+        return summary;
+    }
+}
@@ -0,0 +1,132 @@
+package pl.aliaksandrou.loancalculator.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.service.LoanCalculationService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "loan.lookup.batching.enabled=true",
+        "loan.lookup.batching.window=200ms",
+        "loan.lookup.batching.max-batch-size=4"
+})
+@ActiveProfiles("test")
+class LoanLookupBatcherTest {
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    private LoanLookupBatcher loanLookupBatcher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Loan createLoan(String loanAmount, int term) {
+        return loanCalculationService.findOrCreateLoan(LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal(loanAmount))
+                .interestRate(new BigDecimal("4.25"))
+                .term(term)
+                .build());
+    }
+
+    @Test
+    void find_ConcurrentLookups_ResolvedInBatchesOfAtMostMaxSize() {
+        Loan first = createLoan("320001", 12);
+        Loan second = createLoan("320002", 24);
+        Loan third = createLoan("320003", 36);
+        DistributionSummary batchSize = meterRegistry.get("loan.lookup.batch.size").summary();
+        long batchesBefore = batchSize.count();
+        double lookupsBefore = batchSize.totalAmount();
+
+        List<CompletableFuture<Optional<Loan>>> lookups = List.of(
+                loanLookupBatcher.find(new BigDecimal("320001.0"), new BigDecimal("4.250"), 12),
+                loanLookupBatcher.find(new BigDecimal("320002"), new BigDecimal("4.25"), 24),
+                loanLookupBatcher.find(new BigDecimal("320003.00"), new BigDecimal("4.25"), 36),
+                loanLookupBatcher.find(new BigDecimal("320001"), new BigDecimal("4.25"), 24),
+                loanLookupBatcher.find(new BigDecimal("320004"), new BigDecimal("4.25"), 12));
+
+        assertEquals(first.getId(), lookups.get(0).join().orElseThrow().getId());
+        assertEquals(second.getId(), lookups.get(1).join().orElseThrow().getId());
+        Loan found = lookups.get(2).join().orElseThrow();
+        assertEquals(third.getId(), found.getId());
+        assertEquals(36, found.getPaymentSchedule().size());
+        assertTrue(lookups.get(3).join().isEmpty());
+        assertTrue(lookups.get(4).join().isEmpty());
+
+        assertEquals(2, batchSize.count() - batchesBefore);
+        assertEquals(5, batchSize.totalAmount() - lookupsBefore);
+        assertEquals(5, meterRegistry.get("loan.lookup.batch.wait").timer().count() - (long) lookupsBefore);
+    }
+
+    @Test
+    void findOrCreateLoan_Batching_FindsStoredLoan() {
+        Loan created = createLoan("320011", 12);
+
+        Loan found = createLoan("320011.00", 12);
+
+        assertEquals(created.getId(), found.getId());
+    }
+
+    @Test
+    void find_FailedBatch_FailsOnlyThatBatchAndKeepsResolving() {
+        LoanRepository repository = mock(LoanRepository.class);
+        Loan loan = Loan.builder()
+                .id(UUID.randomUUID())
+                .loanAmount(new BigDecimal("1000.00"))
+                .interestRate(new BigDecimal("5.00"))
+                .term(12)
+                .build();
+        when(repository.findAll(any(Specification.class)))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(List.of(loan));
+
+        try (LoanLookupBatcher batcher = new LoanLookupBatcher(repository, Duration.ZERO, 1,
+                Duration.ofSeconds(5), new SimpleMeterRegistry())) {
+            CompletableFuture<Optional<Loan>> failed = batcher.find(new BigDecimal("1000"), new BigDecimal("5"), 12);
+            CompletionException failure = assertThrows(CompletionException.class, failed::join);
+            assertInstanceOf(StackOverflowError.class, failure.getCause());
+
+            assertEquals(loan.getId(),
+                    batcher.find(new BigDecimal("1000"), new BigDecimal("5"), 12).join().orElseThrow().getId());
+        }
+    }
+
+    @Test
+    void find_BatchNotResolvedInTime_TimesOut() {
+        LoanRepository repository = mock(LoanRepository.class);
+        when(repository.findAll(any(Specification.class))).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return List.of();
+        });
+
+        try (LoanLookupBatcher batcher = new LoanLookupBatcher(repository, Duration.ZERO, 1,
+                Duration.ofMillis(50), new SimpleMeterRegistry())) {
+            CompletableFuture<Optional<Loan>> lookup = batcher.find(new BigDecimal("1000"), new BigDecimal("5"), 12);
+
+            CompletionException failure = assertThrows(CompletionException.class, lookup::join);
+            assertInstanceOf(TimeoutException.class, failure.getCause());
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package pl.aliaksandrou.loancalculator.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,13 +16,20 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import pl.aliaksandrou.loancalculator.LoanCalculatorApplication;
+import pl.aliaksandrou.loancalculator.dto.CompactPaymentSchedule;
 import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
 import pl.aliaksandrou.loancalculator.dto.LoanCalculationResponse;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationSummaryResponse;
+import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+import pl.aliaksandrou.loancalculator.jfr.LoanCalculationEvent;
 import pl.aliaksandrou.loancalculator.model.Loan;
 import pl.aliaksandrou.loancalculator.model.LoanPaymentSchedule;
 import pl.aliaksandrou.loancalculator.repository.LoanRepository;
 
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +59,9 @@ class LoanCalculationServiceTest {
     @Autowired
     private LoanCalculationService loanCalculationService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private LoanCalculationRequest request;
     private Loan existingLoan;
     private List<LoanPaymentSchedule> existingPaymentSchedules;
@@ -114,6 +128,37 @@ class LoanCalculationServiceTest {
         assertEquals(response1.getMonthlyPayment(), response2.getMonthlyPayment());
     }
 
+    @Test
+    void calculateLoanSchedule_RecordsFlightRecorderEvents() throws Exception {
+        loanCalculationService.evictLoanScheduleCache(request);
+        when(loanRepository.findByLoanAmountAndInterestRateAndTerm(
+                request.getLoanAmount(), request.getInterestRate(), request.getTerm()))
+                .thenReturn(Optional.of(existingLoan));
+
+        Path file = Files.createTempFile("loan-calculation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(LoanCalculationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            loanCalculationService.calculateLoanSchedule(request);
+            loanCalculationService.calculateLoanSchedule(request);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("pl.aliaksandrou.loancalculator.LoanCalculation"))
+                .toList();
+        Files.delete(file);
+
+        assertEquals(2, events.size());
+        assertFalse(events.get(0).getBoolean("cacheHit"));
+        assertTrue(events.get(1).getBoolean("cacheHit"));
+        assertEquals(request.getTerm(), events.get(0).getInt("term"));
+        assertEquals(existingPaymentSchedules.size(), events.get(0).getInt("rows"));
+        assertTrue(events.get(0).getDuration("dbLookupDuration").toNanos() > 0);
+        assertTrue(events.get(0).getDuration("scheduleReadDuration").toNanos() > 0);
+    }
+
     @Test
     void calculateLoanSchedule_WithDifferentParameters_DoesNotUseCache() {
         when(loanRepository.findByLoanAmountAndInterestRateAndTerm(
@@ -197,6 +242,45 @@ class LoanCalculationServiceTest {
         verify(loanRepository, times(1)).save(any(Loan.class));
     }
 
+    @Test
+    void calculateLoanSchedule_WithNewLoan_CachesCompactScheduleWithSameContent() throws Exception {
+        LoanCalculationRequest newRequest = LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal("150000.25"))
+                .interestRate(new BigDecimal("4.25"))
+                .term(240)
+                .build();
+        loanCalculationService.evictLoanScheduleCache(newRequest);
+        when(loanRepository.findByLoanAmountAndInterestRateAndTerm(
+                newRequest.getLoanAmount(), newRequest.getInterestRate(), newRequest.getTerm()))
+                .thenReturn(Optional.empty());
+        when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LoanCalculationResponse response = loanCalculationService.calculateLoanSchedule(newRequest);
+
+        assertInstanceOf(CompactPaymentSchedule.class, response.getPayments());
+        Loan loan = Loan.builder()
+                .loanAmount(newRequest.getLoanAmount())
+                .interestRate(newRequest.getInterestRate())
+                .term(newRequest.getTerm())
+                .createdAt(LocalDate.now())
+                .build();
+        List<LoanPaymentSchedule> schedules = loanCalculationService.generatePaymentSchedule(loan, response.getMonthlyPayment());
+        assertEquals(schedules.size(), response.getPayments().size());
+        for (int i = 0; i < schedules.size(); i++) {
+            PaymentScheduleItem item = response.getPayments().get(i);
+            assertEquals(schedules.get(i).getPaymentNumber(), item.getNumber());
+            assertEquals(schedules.get(i).getPaymentDate().toString(), item.getDate());
+            assertEquals(0, schedules.get(i).getTotalPayment().compareTo(item.getTotalPayment()));
+            assertEquals(0, schedules.get(i).getInterest().compareTo(item.getInterest()));
+            assertEquals(0, schedules.get(i).getPrincipal().compareTo(item.getPrincipal()));
+            assertEquals(0, schedules.get(i).getRemainingBalance().compareTo(item.getRemainingBalance()));
+        }
+
+        // Written straight from the arrays, the JSON equals that of the expanded items
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(new ArrayList<>(response.getPayments()))),
+                objectMapper.readTree(objectMapper.writeValueAsString(response.getPayments())));
+    }
+
     @Test
     void calculateMonthlyPayment_WithValidInputs_ReturnsCorrectValue() {
         BigDecimal monthlyPayment = loanCalculationService.calculateMonthlyPayment(request);
@@ -239,6 +323,35 @@ class LoanCalculationServiceTest {
         assertEquals(0, lastPayment.getRemainingBalance().compareTo(BigDecimal.ZERO));
     }
 
+    @Test
+    void calculateLoanSummary_MatchesGeneratedScheduleTotals() {
+        List<LoanCalculationRequest> requests = List.of(
+                request,
+                LoanCalculationRequest.builder().loanAmount(new BigDecimal("120000")).interestRate(BigDecimal.ZERO).term(360).build(),
+                LoanCalculationRequest.builder().loanAmount(new BigDecimal("250000.55")).interestRate(new BigDecimal("3.99")).term(480).build(),
+                LoanCalculationRequest.builder().loanAmount(new BigDecimal("1234.567")).interestRate(new BigDecimal("7.25")).term(24).build(),
+                LoanCalculationRequest.builder().loanAmount(new BigDecimal("1")).interestRate(new BigDecimal("5")).term(360).build());
+
+        for (LoanCalculationRequest summaryRequest : requests) {
+            LoanCalculationSummaryResponse summary = loanCalculationService.calculateLoanSummary(summaryRequest);
+
+            Loan loan = Loan.builder()
+                    .loanAmount(summaryRequest.getLoanAmount())
+                    .interestRate(summaryRequest.getInterestRate())
+                    .term(summaryRequest.getTerm())
+                    .build();
+            List<LoanPaymentSchedule> schedules = loanCalculationService.generatePaymentSchedule(loan, summary.getMonthlyPayment());
+            BigDecimal totalPayment = schedules.stream().map(LoanPaymentSchedule::getTotalPayment).reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal totalInterest = schedules.stream().map(LoanPaymentSchedule::getInterest).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            assertEquals(0, summary.getFinalPayment().compareTo(schedules.get(schedules.size() - 1).getTotalPayment()));
+            assertEquals(0, summary.getTotalPayment().compareTo(totalPayment));
+            assertEquals(0, summary.getTotalInterest().compareTo(totalInterest));
+        }
+
+        verifyNoInteractions(loanRepository);
+    }
+
     @Test
     void calculateLoanSchedule_WithInvalidLoanAmount_ThrowsException() {
         request = LoanCalculationRequest.builder()
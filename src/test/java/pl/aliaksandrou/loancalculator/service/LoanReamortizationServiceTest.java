@@ -0,0 +1,187 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationResponse;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanReamortizationResponse;
+import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+import pl.aliaksandrou.loancalculator.dto.ScheduleEvent;
+import pl.aliaksandrou.loancalculator.dto.ScheduleEventType;
+import pl.aliaksandrou.loancalculator.exception.LoanNotFoundException;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanReamortizationServiceTest {
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    private LoanReamortizationService loanReamortizationService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    private LoanCalculationResponse createLoan(String loanAmount) {
+        return loanCalculationService.calculateLoanSchedule(LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal(loanAmount))
+                .interestRate(new BigDecimal("5.5"))
+                .term(360)
+                .build());
+    }
+
+    private LoanReamortizationRequest request(ScheduleEvent... events) {
+        return LoanReamortizationRequest.builder()
+                .events(List.of(events))
+                .build();
+    }
+
+    @Test
+    void reamortize_WithPrepayment_RecomputesOnlyTail() {
+        LoanCalculationResponse loan = createLoan("100001");
+
+        LoanReamortizationResponse response = loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(300).type(ScheduleEventType.PREPAYMENT).amount(new BigDecimal("5000")).build()));
+
+        assertEquals(300, response.getEffectiveFromMonth());
+        assertEquals(61, response.getPayments().size());
+        assertTrue(response.getMonthlyPayment().compareTo(loan.getMonthlyPayment()) < 0);
+
+        PaymentScheduleItem previous = loan.getPayments().get(298);
+        PaymentScheduleItem first = response.getPayments().get(0);
+        assertEquals(300, first.getNumber());
+        assertEquals(0, first.getTotalPayment().compareTo(loan.getMonthlyPayment().add(new BigDecimal("5000"))));
+        assertEquals(0, first.getRemainingBalance()
+                .compareTo(previous.getRemainingBalance().subtract(first.getPrincipal())));
+
+        PaymentScheduleItem last = response.getPayments().get(response.getPayments().size() - 1);
+        assertEquals(360, last.getNumber());
+        assertEquals(0, last.getRemainingBalance().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    void reamortize_WithUnchangedRate_ReproducesOriginalSchedule() {
+        LoanCalculationResponse loan = createLoan("100002");
+
+        LoanReamortizationResponse response = loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(1).type(ScheduleEventType.RATE_CHANGE).interestRate(new BigDecimal("5.5")).build()));
+
+        assertEquals(loan.getPayments().size(), response.getPayments().size());
+        for (int i = 0; i < loan.getPayments().size(); i++) {
+            PaymentScheduleItem expected = loan.getPayments().get(i);
+            PaymentScheduleItem actual = response.getPayments().get(i);
+            assertEquals(expected.getNumber(), actual.getNumber());
+            assertEquals(0, expected.getInterest().compareTo(actual.getInterest()));
+            assertEquals(0, expected.getPrincipal().compareTo(actual.getPrincipal()));
+            assertEquals(0, expected.getRemainingBalance().compareTo(actual.getRemainingBalance()));
+        }
+    }
+
+    @Test
+    void reamortize_WithShorterTerm_EndsAtNewTerm() {
+        LoanCalculationResponse loan = createLoan("100003");
+
+        LoanReamortizationResponse response = loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(120).type(ScheduleEventType.TERM_CHANGE).term(240).build(),
+                ScheduleEvent.builder().month(180).type(ScheduleEventType.RATE_CHANGE).interestRate(new BigDecimal("3.0")).build()));
+
+        assertEquals(120, response.getEffectiveFromMonth());
+        assertEquals(240, response.getTerm());
+        assertEquals(121, response.getPayments().size());
+        assertTrue(response.getPayments().get(0).getTotalPayment().compareTo(loan.getMonthlyPayment()) > 0);
+        assertEquals(0, response.getPayments().get(120).getRemainingBalance().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    void reamortize_WithEventAfterLastPayment_ThrowsException() {
+        LoanCalculationResponse loan = createLoan("100004");
+
+        assertThrows(IllegalArgumentException.class, () -> loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(361).type(ScheduleEventType.PREPAYMENT).amount(BigDecimal.TEN).build())));
+    }
+
+    @Test
+    void reamortize_WithUnknownLoan_ThrowsNotFound() {
+        assertThrows(LoanNotFoundException.class, () -> loanReamortizationService.reamortize(UUID.randomUUID(), request(
+                ScheduleEvent.builder().month(1).type(ScheduleEventType.PREPAYMENT).amount(BigDecimal.TEN).build())));
+    }
+
+    @Test
+    void reamortize_LoanStartedAtMonthEnd_KeepsOriginalPaymentDates() {
+        LoanCalculationResponse created = createLoan("100005");
+        Loan loan = loanRepository.findById(created.getLoanId()).orElseThrow();
+        loan.setCreatedAt(LocalDate.of(2025, 1, 31));
+        loanRepository.save(loan);
+
+        LoanReamortizationResponse response = loanReamortizationService.reamortize(loan.getId(), request(
+                ScheduleEvent.builder().month(2).type(ScheduleEventType.PREPAYMENT).amount(new BigDecimal("1000")).build()));
+
+        assertEquals("2025-03-31", response.getPayments().get(0).getDate());
+        assertEquals("2025-04-30", response.getPayments().get(1).getDate());
+        assertEquals("2025-05-31", response.getPayments().get(2).getDate());
+    }
+
+    @Test
+    void reamortize_PrepaymentPaysOffEarly_ReportsMonthOfLastPayment() {
+        LoanCalculationResponse loan = createLoan("100006");
+
+        LoanReamortizationResponse response = loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(350).type(ScheduleEventType.PREPAYMENT).amount(new BigDecimal("100000")).build()));
+
+        assertEquals(1, response.getPayments().size());
+        assertEquals(350, response.getTerm());
+    }
+
+    @Test
+    void reamortize_WithRateNotStorable_ThrowsException() {
+        LoanCalculationResponse loan = createLoan("100007");
+
+        assertThrows(IllegalArgumentException.class, () -> loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(1).type(ScheduleEventType.RATE_CHANGE).interestRate(new BigDecimal("4.125")).build())));
+        assertThrows(IllegalArgumentException.class, () -> loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(1).type(ScheduleEventType.RATE_CHANGE).interestRate(new BigDecimal("1000")).build())));
+    }
+
+    @Test
+    void reamortize_AfterEarlierRevision_BuildsOnIt() {
+        LoanCalculationResponse loan = createLoan("100008");
+        LoanReamortizationResponse first = loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(120).type(ScheduleEventType.RATE_CHANGE).interestRate(new BigDecimal("3.0")).build()));
+
+        LoanReamortizationResponse second = loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(200).type(ScheduleEventType.PREPAYMENT).amount(new BigDecimal("1000")).build()));
+
+        assertEquals(0, second.getInterestRate().compareTo(new BigDecimal("3.0")));
+        PaymentScheduleItem previous = first.getPayments().get(79);
+        PaymentScheduleItem opening = second.getPayments().get(0);
+        assertEquals(199, previous.getNumber());
+        assertEquals(0, opening.getTotalPayment().compareTo(first.getMonthlyPayment().add(new BigDecimal("1000"))));
+        assertEquals(0, opening.getRemainingBalance()
+                .compareTo(previous.getRemainingBalance().subtract(opening.getPrincipal())));
+    }
+
+    @Test
+    void reamortize_OverlappingEarlierRevision_ThrowsException() {
+        LoanCalculationResponse loan = createLoan("100009");
+        loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(120).type(ScheduleEventType.PREPAYMENT).amount(new BigDecimal("1000")).build()));
+
+        assertThrows(IllegalArgumentException.class, () -> loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(120).type(ScheduleEventType.PREPAYMENT).amount(BigDecimal.TEN).build())));
+        assertThrows(IllegalArgumentException.class, () -> loanReamortizationService.reamortize(loan.getLoanId(), request(
+                ScheduleEvent.builder().month(60).type(ScheduleEventType.PREPAYMENT).amount(BigDecimal.TEN).build())));
+    }
+}
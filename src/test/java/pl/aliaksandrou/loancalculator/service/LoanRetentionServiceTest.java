@@ -0,0 +1,119 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.repository.LoanRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "loan.retention.enabled=true",
+        "loan.retention.ttl=30d",
+        "loan.retention.batch-size=1"
+})
+@ActiveProfiles("test")
+class LoanRetentionServiceTest {
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    private LoanRetentionService loanRetentionService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Loan createLoan(String loanAmount, LocalDate lastAccessedAt) {
+        Loan loan = loanCalculationService.findOrCreateLoan(LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal(loanAmount))
+                .interestRate(new BigDecimal("5.5"))
+                .term(12)
+                .build());
+        loan.setLastAccessedAt(lastAccessedAt);
+        return loanRepository.save(loan);
+    }
+
+    @Test
+    void purgeExpiredLoans_DeletesOnlyLoansNotAccessedWithinTtl() {
+        Loan expired = createLoan("200001", LocalDate.now().minusDays(31));
+        Loan alsoExpired = createLoan("200002", LocalDate.now().minusDays(400));
+        Loan recent = createLoan("200003", LocalDate.now().minusDays(29));
+
+        long purged = loanRetentionService.purgeExpiredLoans();
+
+        assertEquals(2, purged);
+        assertFalse(loanRepository.existsById(expired.getId()));
+        assertFalse(loanRepository.existsById(alsoExpired.getId()));
+        assertTrue(loanRepository.existsById(recent.getId()));
+    }
+
+    @Test
+    void findOrCreateLoan_ExistingLoan_ExtendsRetention() {
+        Loan loan = createLoan("200004", LocalDate.now().minusDays(100));
+
+        loanCalculationService.findOrCreateLoan(LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal("200004"))
+                .interestRate(new BigDecimal("5.5"))
+                .term(12)
+                .build());
+
+        assertEquals(LocalDate.now(), loanRepository.findById(loan.getId()).orElseThrow().getLastAccessedAt());
+    }
+
+    @Test
+    void calculateLoanSchedule_CacheHit_ExtendsRetention() {
+        LoanCalculationRequest request = LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal("200005"))
+                .interestRate(new BigDecimal("5.5"))
+                .term(12)
+                .build();
+        UUID loanId = loanCalculationService.calculateLoanSchedule(request).getLoanId();
+        Loan loan = loanRepository.findById(loanId).orElseThrow();
+        loan.setLastAccessedAt(LocalDate.now().minusDays(100));
+        loanRepository.save(loan);
+
+        loanCalculationService.calculateLoanSchedule(request);
+
+        assertEquals(LocalDate.now(), loanRepository.findById(loanId).orElseThrow().getLastAccessedAt());
+    }
+
+    @Test
+    void purgeExpiredLoans_EvictsOnlyPurgedLoansFromCache() {
+        LoanCalculationRequest expiredRequest = LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal("200006"))
+                .interestRate(new BigDecimal("5.50"))
+                .term(12)
+                .build();
+        LoanCalculationRequest recentRequest = LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal("200007"))
+                .interestRate(new BigDecimal("5.5"))
+                .term(12)
+                .build();
+        UUID expiredId = loanCalculationService.calculateLoanSchedule(expiredRequest).getLoanId();
+        loanCalculationService.calculateLoanSchedule(recentRequest);
+        Loan expired = loanRepository.findById(expiredId).orElseThrow();
+        expired.setLastAccessedAt(LocalDate.now().minusDays(31));
+        loanRepository.save(expired);
+        Cache cache = cacheManager.getCache(LoanCalculationService.LOAN_SCHEDULE_CACHE);
+
+        loanRetentionService.purgeExpiredLoans();
+
+        assertNull(cache.get(LoanCalculationService.cacheKey(
+                expiredRequest.getLoanAmount(), expiredRequest.getInterestRate(), expiredRequest.getTerm())));
+        assertNotNull(cache.get(LoanCalculationService.cacheKey(
+                recentRequest.getLoanAmount(), recentRequest.getInterestRate(), recentRequest.getTerm())));
+    }
+}
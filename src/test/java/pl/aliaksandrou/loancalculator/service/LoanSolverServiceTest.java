@@ -0,0 +1,110 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveRequest;
+import pl.aliaksandrou.loancalculator.dto.LoanSolveResponse;
+import pl.aliaksandrou.loancalculator.dto.SolveTarget;
+import pl.aliaksandrou.loancalculator.repository.LoanStore;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class LoanSolverServiceTest {
+
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+
+    private final LoanStore loanStore = mock(LoanStore.class);
+    private final LoanCalculationService loanCalculationService =
+            new LoanCalculationService(loanStore, mock(CacheManager.class));
+    private final LoanSolverService loanSolverService = new LoanSolverService(loanCalculationService);
+
+    private BigDecimal payment(BigDecimal loanAmount, BigDecimal interestRate, int term) {
+        return loanCalculationService.calculateMonthlyPayment(LoanCalculationRequest.builder()
+                .loanAmount(loanAmount)
+                .interestRate(interestRate)
+                .term(term)
+                .build());
+    }
+
+    @Test
+    void solve_LoanAmount_ReturnsMaximumAffordableAmount() {
+        BigDecimal target = new BigDecimal("2000");
+        BigDecimal rate = new BigDecimal("5.5");
+
+        LoanSolveResponse response = loanSolverService.solve(LoanSolveRequest.builder()
+                .targetMonthlyPayment(target)
+                .interestRate(rate)
+                .term(360)
+                .build());
+
+        assertEquals(SolveTarget.LOAN_AMOUNT, response.getSolvedFor());
+        assertTrue(payment(response.getLoanAmount(), rate, 360).compareTo(target) <= 0);
+        assertTrue(payment(response.getLoanAmount().add(CENT), rate, 360).compareTo(target) > 0);
+        assertEquals(0, response.getMonthlyPayment().compareTo(payment(response.getLoanAmount(), rate, 360)));
+        verifyNoInteractions(loanStore);
+    }
+
+    @Test
+    void solve_LoanAmountWithZeroRate_ReturnsMaximumAffordableAmount() {
+        LoanSolveResponse response = loanSolverService.solve(LoanSolveRequest.builder()
+                .targetMonthlyPayment(new BigDecimal("333.33"))
+                .interestRate(BigDecimal.ZERO)
+                .term(360)
+                .build());
+
+        assertEquals(0, response.getLoanAmount().compareTo(new BigDecimal("120000.59")));
+        assertEquals(0, response.getMonthlyPayment().compareTo(new BigDecimal("333.33")));
+    }
+
+    @Test
+    void solve_Term_ReturnsMinimumTerm() {
+        LoanSolveResponse response = loanSolverService.solve(LoanSolveRequest.builder()
+                .targetMonthlyPayment(new BigDecimal("567.79"))
+                .loanAmount(new BigDecimal("100000"))
+                .interestRate(new BigDecimal("5.5"))
+                .build());
+
+        assertEquals(SolveTarget.TERM, response.getSolvedFor());
+        assertEquals(360, response.getTerm());
+        assertEquals(0, response.getMonthlyPayment().compareTo(new BigDecimal("567.79")));
+    }
+
+    @Test
+    void solve_InterestRate_ReturnsMaximumRateWithTwoDecimals() {
+        LoanSolveResponse response = loanSolverService.solve(LoanSolveRequest.builder()
+                .targetMonthlyPayment(new BigDecimal("567.79"))
+                .loanAmount(new BigDecimal("100000"))
+                .term(360)
+                .build());
+
+        assertEquals(SolveTarget.INTEREST_RATE, response.getSolvedFor());
+        assertEquals(0, response.getInterestRate().compareTo(new BigDecimal("5.5")));
+        assertEquals(0, response.getMonthlyPayment().compareTo(new BigDecimal("567.79")));
+    }
+
+    @Test
+    void solve_TermWithPaymentBelowInterest_ThrowsException() {
+        LoanSolveRequest request = LoanSolveRequest.builder()
+                .targetMonthlyPayment(new BigDecimal("400"))
+                .loanAmount(new BigDecimal("100000"))
+                .interestRate(new BigDecimal("5.5"))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> loanSolverService.solve(request));
+    }
+
+    @Test
+    void solve_WithTwoOmittedParameters_ThrowsException() {
+        LoanSolveRequest request = LoanSolveRequest.builder()
+                .targetMonthlyPayment(new BigDecimal("2000"))
+                .term(360)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> loanSolverService.solve(request));
+    }
+}
@@ -0,0 +1,160 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import pl.aliaksandrou.loancalculator.dto.PaymentScheduleItem;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.model.LoanPaymentSchedule;
+import pl.aliaksandrou.loancalculator.repository.StatelessLoanStore;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures bytes allocated per schedule of a 360 month loan, comparing the former two-pass
+ * pipeline (entities with a clock read per row, then response items mapped from them) with
+ * single pass generation into the payment schedule sinks. Bytes per schedule are written to
+ * {@code target/allocation/report.json}.
+ * <p>
+ * Run with {@code mvn test -Pperf}.
+ */
+@Tag("perf")
+class PaymentScheduleAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+    private static final Path REPORT = Path.of("target/allocation/report.json");
+
+    private final LoanCalculationService loanCalculationService = new LoanCalculationService(
+            new StatelessLoanStore(), new ConcurrentMapCacheManager());
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final BigDecimal loanAmount = new BigDecimal("100000");
+    private final BigDecimal interestRate = new BigDecimal("5.5");
+    private final BigDecimal monthlyPayment = new BigDecimal("567.79");
+    private final int term = 360;
+
+    @Test
+    void singlePassAllocatesLessThanTwoPassPipeline() throws Exception {
+        long twoPass = bytesPerCall(this::twoPass);
+        long singlePassPersisted = bytesPerCall(this::singlePassPersisted);
+        long singlePassResponseOnly = bytesPerCall(this::singlePassResponseOnly);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("term", term);
+        report.put("measuredIterations", MEASURED_ITERATIONS);
+        report.put("twoPassBytes", twoPass);
+        report.put("singlePassPersistedBytes", singlePassPersisted);
+        report.put("singlePassResponseOnlyBytes", singlePassResponseOnly);
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+
+        assertTrue(singlePassPersisted < twoPass);
+        assertTrue(singlePassResponseOnly < twoPass);
+    }
+
+    private long bytesPerCall(Supplier<List<?>> pipeline) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += pipeline.get().size();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += pipeline.get().size();
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(sink > 0);
+        return allocated / MEASURED_ITERATIONS;
+    }
+
+    /**
+     * Former implementation: every row built as an entity, then mapped into a response item.
+     */
+    private List<PaymentScheduleItem> twoPass() {
+        Loan loan = Loan.builder()
+                .loanAmount(loanAmount)
+                .interestRate(interestRate)
+                .term(term)
+                .monthlyPayment(monthlyPayment)
+                .build();
+        BigDecimal monthlyRate = loanCalculationService.calculateMonthlyRate(interestRate);
+        List<LoanPaymentSchedule> schedules = new ArrayList<>();
+        BigDecimal remainingBalance = loanAmount;
+        for (int month = 1; month <= term; month++) {
+            BigDecimal interest = remainingBalance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principal = month == term
+                    ? remainingBalance
+                    : monthlyPayment.subtract(interest).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal newBalance = month == term
+                    ? BigDecimal.ZERO
+                    : remainingBalance.subtract(principal).setScale(2, RoundingMode.HALF_UP);
+            schedules.add(LoanPaymentSchedule.builder()
+                    .loan(loan)
+                    .paymentNumber(month)
+                    .paymentDate(LocalDate.now().plusMonths(month))
+                    .interest(interest)
+                    .principal(principal)
+                    .remainingBalance(newBalance)
+                    .totalPayment(month == term ? principal.add(interest) : monthlyPayment)
+                    .build());
+            remainingBalance = newBalance;
+        }
+        return schedules.stream()
+                .map(schedule -> PaymentScheduleItem.builder()
+                        .number(schedule.getPaymentNumber())
+                        .date(schedule.getPaymentDate().toString())
+                        .totalPayment(schedule.getTotalPayment())
+                        .interest(schedule.getInterest())
+                        .principal(schedule.getPrincipal())
+                        .remainingBalance(schedule.getRemainingBalance())
+                        .build())
+                .toList();
+    }
+
+    private List<PaymentScheduleItem> singlePassPersisted() {
+        Loan loan = Loan.builder()
+                .loanAmount(loanAmount)
+                .interestRate(interestRate)
+                .term(term)
+                .monthlyPayment(monthlyPayment)
+                .build();
+        List<LoanPaymentSchedule> schedules = new ArrayList<>(term);
+        List<PaymentScheduleItem> items = new ArrayList<>(term);
+        PaymentScheduleSink entities = (number, date, totalPayment, interest, principal, remainingBalance) ->
+                schedules.add(LoanPaymentSchedule.builder()
+                        .loan(loan)
+                        .paymentNumber(number)
+                        .paymentDate(date)
+                        .totalPayment(totalPayment)
+                        .interest(interest)
+                        .principal(principal)
+                        .remainingBalance(remainingBalance)
+                        .build());
+        loanCalculationService.generatePaymentSchedule(loanAmount, interestRate, term, monthlyPayment,
+                LocalDate.now(), entities.andThen(PaymentScheduleSink.toItems(items)));
+        return items;
+    }
+
+    private List<PaymentScheduleItem> singlePassResponseOnly() {
+        List<PaymentScheduleItem> items = new ArrayList<>(term);
+        loanCalculationService.generatePaymentSchedule(loanAmount, interestRate, term, monthlyPayment,
+                LocalDate.now(), PaymentScheduleSink.toItems(items));
+        return items;
+    }
+}
@@ -0,0 +1,130 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import pl.aliaksandrou.loancalculator.dto.CashFlowMonth;
+import pl.aliaksandrou.loancalculator.dto.LoanCalculationRequest;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowRequest;
+import pl.aliaksandrou.loancalculator.dto.PortfolioCashFlowResponse;
+import pl.aliaksandrou.loancalculator.model.Loan;
+import pl.aliaksandrou.loancalculator.model.LoanPaymentSchedule;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "loan.portfolio.chunk-size=2",
+        "loan.portfolio.max-in-flight-chunks=2"
+})
+@ActiveProfiles("test")
+class PortfolioCashFlowServiceTest {
+
+    @Autowired
+    private LoanCalculationService loanCalculationService;
+
+    @Autowired
+    private PortfolioCashFlowService portfolioCashFlowService;
+
+    private Loan createLoan(String loanAmount, int term) {
+        return loanCalculationService.findOrCreateLoan(LoanCalculationRequest.builder()
+                .loanAmount(new BigDecimal(loanAmount))
+                .interestRate(new BigDecimal("6.75"))
+                .term(term)
+                .build());
+    }
+
+    private void assertMatchesSchedules(PortfolioCashFlowResponse response, List<Loan> loans) {
+        int months = response.getMonths();
+        BigDecimal[] interest = new BigDecimal[months];
+        BigDecimal[] principal = new BigDecimal[months];
+        for (int i = 0; i < months; i++) {
+            interest[i] = BigDecimal.ZERO;
+            principal[i] = BigDecimal.ZERO;
+        }
+        for (Loan loan : loans) {
+            for (LoanPaymentSchedule payment
+                    : loanCalculationService.generatePaymentSchedule(loan, loan.getMonthlyPayment())) {
+                long index = response.getFrom().until(YearMonth.from(payment.getPaymentDate()), ChronoUnit.MONTHS);
+                if (index >= 0 && index < months) {
+                    interest[(int) index] = interest[(int) index].add(payment.getInterest());
+                    principal[(int) index] = principal[(int) index].add(payment.getPrincipal());
+                }
+            }
+        }
+
+        assertEquals(months, response.getCashFlows().size());
+        for (int i = 0; i < months; i++) {
+            CashFlowMonth cashFlow = response.getCashFlows().get(i);
+            assertEquals(response.getFrom().plusMonths(i), cashFlow.getMonth());
+            assertEquals(0, interest[i].compareTo(cashFlow.getInterest()), "Interest of " + cashFlow.getMonth());
+            assertEquals(0, principal[i].compareTo(cashFlow.getPrincipal()), "Principal of " + cashFlow.getMonth());
+            assertEquals(0, cashFlow.getInterest().add(cashFlow.getPrincipal()).compareTo(cashFlow.getTotalPayment()));
+        }
+    }
+
+    @Test
+    void aggregate_LoanIds_MatchesSumOfSchedulesAcrossChunks() {
+        List<Loan> loans = List.of(
+                createLoan("300001", 12),
+                createLoan("300002", 24),
+                createLoan("300003.50", 36),
+                createLoan("300004", 6),
+                createLoan("300005", 360));
+
+        PortfolioCashFlowResponse response = portfolioCashFlowService.aggregate(PortfolioCashFlowRequest.builder()
+                .loanIds(loans.stream().map(Loan::getId).toList())
+                .months(48)
+                .build());
+
+        assertEquals(5, response.getLoanCount());
+        assertEquals(YearMonth.now(), response.getFrom());
+        assertMatchesSchedules(response, loans);
+        assertEquals(0, BigDecimal.ZERO.compareTo(response.getCashFlows().get(0).getTotalPayment()));
+        BigDecimal repaid = loans.subList(0, 4).stream()
+                .map(Loan::getLoanAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertTrue(response.getTotalPrincipal().compareTo(repaid) > 0);
+    }
+
+    @Test
+    void aggregate_Filters_SelectsMatchingLoansAndCutsHorizon() {
+        Loan first = createLoan("310001", 24);
+        Loan second = createLoan("310002", 36);
+        createLoan("310003", 480);
+        createLoan("310004", 24);
+
+        PortfolioCashFlowResponse response = portfolioCashFlowService.aggregate(PortfolioCashFlowRequest.builder()
+                .minLoanAmount(new BigDecimal("310001"))
+                .maxLoanAmount(new BigDecimal("310003"))
+                .maxTerm(360)
+                .from(YearMonth.now().plusMonths(6))
+                .months(12)
+                .build());
+
+        assertEquals(2, response.getLoanCount());
+        assertMatchesSchedules(response, List.of(first, second));
+    }
+
+    @Test
+    void aggregate_InvalidRequest_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> portfolioCashFlowService.aggregate(
+                PortfolioCashFlowRequest.builder().months(0).build()));
+        assertThrows(IllegalArgumentException.class, () -> portfolioCashFlowService.aggregate(
+                PortfolioCashFlowRequest.builder()
+                        .minTerm(24)
+                        .maxTerm(12)
+                        .build()));
+        assertThrows(IllegalArgumentException.class, () -> portfolioCashFlowService.aggregate(
+                PortfolioCashFlowRequest.builder()
+                        .loanIds(Arrays.asList(UUID.randomUUID(), null))
+                        .build()));
+    }
+}
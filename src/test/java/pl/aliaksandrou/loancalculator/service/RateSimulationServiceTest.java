@@ -0,0 +1,91 @@
+package pl.aliaksandrou.loancalculator.service;
+
+import org.junit.jupiter.api.Test;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationRequest;
+import pl.aliaksandrou.loancalculator.dto.RateSimulationResponse;
+import pl.aliaksandrou.loancalculator.dto.SimulationPoint;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateSimulationServiceTest {
+
+    private final RateSimulationService rateSimulationService = new RateSimulationService();
+
+    private RateSimulationRequest.RateSimulationRequestBuilder baseRequest() {
+        return RateSimulationRequest.builder()
+                .loanAmount(new BigDecimal("100000"))
+                .initialRate(new BigDecimal("5.5"))
+                .term(360)
+                .resetPeriod(12);
+    }
+
+    @Test
+    void simulate_WithZeroVolatility_MatchesFixedRatePayment() {
+        RateSimulationResponse response = rateSimulationService.simulate(baseRequest()
+                .paths(100)
+                .seed(1L)
+                .build());
+
+        assertEquals(30, response.getPoints().size());
+        SimulationPoint first = response.getPoints().get(0);
+        assertEquals(1, first.getMonth());
+        assertEquals(0, first.getPayment().get("p5").compareTo(new BigDecimal("567.79")));
+        assertEquals(0, first.getPayment().get("p95").compareTo(new BigDecimal("567.79")));
+        assertEquals(0, first.getBalance().get("p50").compareTo(new BigDecimal("100000")));
+        assertEquals(13, response.getPoints().get(1).getMonth());
+    }
+
+    @Test
+    void simulate_WithSameSeed_IsReproducible() {
+        RateSimulationRequest request = baseRequest()
+                .longTermRate(new BigDecimal("4.0"))
+                .meanReversion(new BigDecimal("0.3"))
+                .volatility(new BigDecimal("1.5"))
+                .paths(5000)
+                .seed(42L)
+                .build();
+
+        RateSimulationResponse response1 = rateSimulationService.simulate(request);
+        RateSimulationResponse response2 = rateSimulationService.simulate(request);
+
+        assertEquals(42L, response1.getSeed());
+        assertEquals(response1.getTotalInterest(), response2.getTotalInterest());
+        for (int i = 0; i < response1.getPoints().size(); i++) {
+            assertEquals(response1.getPoints().get(i).getPayment(), response2.getPoints().get(i).getPayment());
+            assertEquals(response1.getPoints().get(i).getBalance(), response2.getPoints().get(i).getBalance());
+        }
+
+        SimulationPoint lastPoint = response1.getPoints().get(response1.getPoints().size() - 1);
+        assertTrue(lastPoint.getPayment().get("p5").compareTo(lastPoint.getPayment().get("p95")) < 0);
+    }
+
+    @Test
+    void simulate_WithTooLargeGrid_ThrowsException() {
+        RateSimulationRequest request = baseRequest()
+                .resetPeriod(1)
+                .paths(200_000)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> rateSimulationService.simulate(request));
+    }
+
+    @Test
+    void simulate_WithInvalidResetPeriod_ThrowsException() {
+        RateSimulationRequest request = baseRequest()
+                .resetPeriod(0)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> rateSimulationService.simulate(request));
+    }
+
+    @Test
+    void simulate_WithTooLargeLoanAmount_ThrowsException() {
+        RateSimulationRequest request = baseRequest()
+                .loanAmount(new BigDecimal("100000000000000000000"))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> rateSimulationService.simulate(request));
+    }
+}